@@ -0,0 +1,69 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.command.FilterCommand;
+import duke.command.FindCommand;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Benchmarks for the find command, which scans every task in the list, against the filter command,
+ * which looks the keyword up in the word index.
+ *
+ * @author Benjamin Lui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindCommandBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    @Param({"homework", "no such task"})
+    private String keyword;
+
+    private TaskList tasks;
+    private Ui ui;
+    private FindCommand findCommand;
+    private FilterCommand filterCommand;
+
+    /**
+     * Generates the tasks used by every invocation of the benchmark.
+     */
+    @Setup
+    public void setUp() {
+        tasks = SyntheticTasks.taskList(size);
+        ui = new Ui();
+        findCommand = new FindCommand(keyword);
+        filterCommand = new FilterCommand("\"" + keyword + "\"");
+        // the index is built the first time the list is queried, which is not what is measured
+        tasks.getIndex();
+    }
+
+    /**
+     * Finds the tasks that contain the keyword.
+     */
+    @Benchmark
+    public String find() {
+        // find never touches the storage
+        return findCommand.execute(tasks, ui, null);
+    }
+
+    /**
+     * Filters the tasks that contain the keyword as a word.
+     */
+    @Benchmark
+    public String filter() {
+        return filterCommand.execute(tasks, ui, null);
+    }
+}
@@ -0,0 +1,53 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.command.Command;
+import duke.parser.Parser;
+
+/**
+ * Benchmarks for parsing each of the commands.
+ *
+ * @author Benjamin Lui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ParserBenchmark {
+    @Param({
+        "list",
+        "bye",
+        "todo read book",
+        "deadline return book /by 2020-01-05",
+        "event project meeting /at Mon 2-4pm",
+        "done 1",
+        "delete 1",
+        "find book",
+        "foo"
+    })
+    private String command;
+
+    private Parser parser;
+
+    /**
+     * Creates the parser used by every invocation of the benchmark.
+     */
+    @Setup
+    public void setUp() {
+        parser = new Parser();
+    }
+
+    @Benchmark
+    public Command parse() {
+        return parser.parse(command);
+    }
+}
@@ -0,0 +1,66 @@
+package duke.benchmark;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.storage.IncrementalTaskListEncoder;
+import duke.storage.TaskListDecoder;
+import duke.storage.TaskListEncoder;
+import duke.task.TaskList;
+
+/**
+ * Benchmarks for decoding and encoding the task file.
+ *
+ * @author Benjamin Lui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StorageBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private List<String> encodedTasks;
+    private TaskList tasks;
+    private IncrementalTaskListEncoder incrementalEncoder;
+
+    /**
+     * Generates the tasks used by every invocation of the benchmark.
+     */
+    @Setup
+    public void setUp() {
+        tasks = SyntheticTasks.taskList(size);
+        encodedTasks = TaskListEncoder.encodeTaskList(tasks);
+        incrementalEncoder = new IncrementalTaskListEncoder();
+        incrementalEncoder.encode(tasks);
+    }
+
+    @Benchmark
+    public TaskList decodeTaskList() {
+        return TaskListDecoder.decodeTaskList(encodedTasks);
+    }
+
+    @Benchmark
+    public List<String> encodeTaskList() {
+        return TaskListEncoder.encodeTaskList(tasks);
+    }
+
+    /**
+     * Encodes the list again after a single task changed, as happens on most saves.
+     */
+    @Benchmark
+    public ByteBuffer[] encodeAfterOneChange() {
+        tasks.getAllTasks().get(size / 2).markAsDone();
+        return incrementalEncoder.encode(tasks);
+    }
+}
@@ -0,0 +1,70 @@
+package duke.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import duke.storage.TaskListEncoder;
+import duke.task.DeadLine;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+/**
+ * Generates reproducible lists of tasks for the benchmarks.
+ * The same seed always gives the same mix of todos, deadlines and events.
+ *
+ * @author Benjamin Lui
+ */
+public class SyntheticTasks {
+    private static final long SEED = 42L;
+    private static final String[] WORDS = {
+        "read", "book", "return", "project", "meeting", "homework", "submit", "report",
+        "call", "mum", "buy", "groceries", "pay", "bills", "clean", "room"
+    };
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+    private static final int DAYS_SPANNED = 3650;
+
+    private SyntheticTasks() { }
+
+    /**
+     * Generates a list of tasks of the given size.
+     * @param size the number of tasks to generate
+     * @return the generated tasks
+     */
+    public static TaskList taskList(int size) {
+        Random random = new Random(SEED);
+        ArrayList<Task> tasks = new ArrayList<Task>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(task(random, i));
+        }
+        return new TaskList(tasks);
+    }
+
+    /**
+     * Generates the lines of a task file with the given number of tasks.
+     * @param size the number of tasks to generate
+     * @return the lines as they would be read from the file
+     */
+    public static List<String> encodedTaskList(int size) {
+        return TaskListEncoder.encodeTaskList(taskList(size));
+    }
+
+    private static Task task(Random random, int index) {
+        // the index keeps every description unique, as duplicates are rejected by the commands
+        String description = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)]
+                + " " + index;
+        String isDone = random.nextInt(3) == 0 ? "X" : " ";
+        String date = FIRST_DATE.plusDays(random.nextInt(DAYS_SPANNED)).toString();
+        switch (random.nextInt(3)) {
+        case 0:
+            return new Todo(description, isDone);
+        case 1:
+            return new DeadLine(description, date, isDone);
+        default:
+            return new Event(description, date, isDone);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+/**
+ * Benchmarks for looking up and deleting tasks in the task list.
+ *
+ * @author Benjamin Lui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskListBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    private int size;
+
+    private TaskList tasks;
+    private Task missingTask;
+
+    /**
+     * Generates the tasks used by every invocation of the benchmark.
+     */
+    @Setup
+    public void setUp() {
+        tasks = SyntheticTasks.taskList(size);
+        missingTask = new Todo("a task that is not in the list");
+    }
+
+    @Benchmark
+    public boolean containsMissingTask() {
+        return tasks.contains(missingTask);
+    }
+
+    /**
+     * Deletes the task in the middle of the list, which shifts every task after it.
+     */
+    @Benchmark
+    public int deleteFromMiddle() {
+        // adding the deleted task back keeps the size of the list the same across invocations
+        Task deleted = tasks.delete(tasks.size() / 2);
+        tasks.add(deleted);
+        return tasks.size();
+    }
+}
@@ -0,0 +1,45 @@
+package duke.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Benchmarks for rendering the list of tasks.
+ *
+ * @author Benjamin Lui
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UiBenchmark {
+    @Param({"1000", "10000"})
+    private int size;
+
+    private TaskList tasks;
+    private Ui ui;
+
+    /**
+     * Generates the tasks used by every invocation of the benchmark.
+     */
+    @Setup
+    public void setUp() {
+        tasks = SyntheticTasks.taskList(size);
+        ui = new Ui();
+    }
+
+    @Benchmark
+    public String list() {
+        return ui.list(tasks.getAllTasks());
+    }
+}
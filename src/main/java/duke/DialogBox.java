@@ -1,49 +1,57 @@
 package duke;
 
-import java.io.IOException;
 import java.util.Collections;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
+import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Region;
 import javafx.scene.shape.Circle;
 
 /**
- * An example of a custom control using FXML.
+ * A custom control built in code.
  * This control represents a dialog box consisting of an ImageView to represent the speaker's face and a label
- * containing text from the speaker.
+ * containing text from the speaker. The layout mirrors what used to be in DialogBox.fxml, but is built
+ * directly so that no FXML has to be parsed for every message.
  *
  * @author Benjamin Lui
  */
 public class DialogBox extends HBox {
-    private String resourceName = "/view/DialogBox.fxml";
-    private int profileDetails = 35;
-    @FXML
-    private Label dialog;
-    @FXML
-    private ImageView displayPicture;
+    private static final double PROFILE_RADIUS = 35;
+    private static final double PICTURE_SIZE = 70.0;
+    private static final double BOX_WIDTH = 400.0;
+    private static final Insets BOX_PADDING = new Insets(15.0);
+
+    private final Label dialog;
+    private final ImageView displayPicture;
 
     private DialogBox(String text, Image img) {
-        try {
-            FXMLLoader fxmlLoader = new FXMLLoader(MainWindow.class.getResource(resourceName));
-            fxmlLoader.setController(this);
-            fxmlLoader.setRoot(this);
-            fxmlLoader.load();
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        dialog.setText(text);
+        dialog = new Label(text);
+        dialog.setWrapText(true);
+        dialog.setMinHeight(Region.USE_PREF_SIZE);
         dialog.getStyleClass().add("message");
         dialog.getStyleClass().add("layout");
-        displayPicture.setImage(img);
-        displayPicture.setClip(new Circle(profileDetails, profileDetails, profileDetails));
+
+        displayPicture = new ImageView(img);
+        displayPicture.setFitHeight(PICTURE_SIZE);
+        displayPicture.setFitWidth(PICTURE_SIZE);
+        displayPicture.setPickOnBounds(true);
+        displayPicture.setPreserveRatio(true);
+        // a node can clip only one parent, so every box needs a circle of its own
+        displayPicture.setClip(new Circle(PROFILE_RADIUS, PROFILE_RADIUS, PROFILE_RADIUS));
+
+        setAlignment(Pos.TOP_RIGHT);
+        setMaxHeight(Double.MAX_VALUE);
+        setMaxWidth(Region.USE_PREF_SIZE);
+        setPrefWidth(BOX_WIDTH);
+        setPadding(BOX_PADDING);
+        getChildren().addAll(dialog, displayPicture);
     }
 
     /**
@@ -56,6 +64,14 @@ public class DialogBox extends HBox {
         setAlignment(Pos.TOP_LEFT);
     }
 
+    /**
+     * Replaces the text shown in the dialog box, used when a list cell is reused for another message.
+     * @param text the new text to be shown
+     */
+    public void setText(String text) {
+        dialog.setText(text);
+    }
+
     public static DialogBox getUserDialog(String text, Image img) {
         var db = new DialogBox(text, img);
         return db;
@@ -0,0 +1,39 @@
+package duke;
+
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+
+/**
+ * List cell for the conversation pane. Each cell keeps one user and one duke.Duke dialog box
+ * and only swaps their text when the ListView reuses the cell for another message.
+ *
+ * @author Benjamin Lui
+ */
+public class DialogCell extends ListCell<Message> {
+    private final DialogBox userDialog;
+    private final DialogBox dukeDialog;
+
+    /**
+     * Constructor for a conversation cell.
+     * @param userImage the picture shown beside the user's messages
+     * @param dukeImage the picture shown beside duke.Duke's messages
+     */
+    public DialogCell(Image userImage, Image dukeImage) {
+        userDialog = DialogBox.getUserDialog("", userImage);
+        dukeDialog = DialogBox.getDukeDialog("", dukeImage);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    @Override
+    protected void updateItem(Message message, boolean isEmpty) {
+        super.updateItem(message, isEmpty);
+        if (isEmpty || message == null) {
+            setGraphic(null);
+            return;
+        }
+        DialogBox dialogBox = message.isFromUser() ? userDialog : dukeDialog;
+        dialogBox.setText(message.getText());
+        setGraphic(dialogBox);
+    }
+}
@@ -1,8 +1,21 @@
 package duke;
 
-import duke.command.Command;
-import duke.parser.Parser;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import duke.command.CommandDispatcher;
+import duke.metrics.Metrics;
+import duke.reminder.ReminderScheduler;
+import duke.storage.FileStorage;
+import duke.storage.MergePolicy;
+import duke.storage.MergeResult;
 import duke.storage.Storage;
+import duke.storage.TaskFileWatcher;
 import duke.task.TaskList;
 import duke.ui.Ui;
 import javafx.application.Application;
@@ -11,7 +24,6 @@ import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.ScrollPane;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
@@ -27,14 +39,18 @@ public class Duke extends Application {
     private Storage storage;
     private TaskList tasks;
     private Ui ui;
+    private CommandDispatcher dispatcher = new CommandDispatcher();
+    private TaskFileWatcher fileWatcher;
+    private Consumer<String> notificationListener = message -> { };
+    // a task deleted on one side but marked as done on the other is kept as it is here
+    private final MergePolicy mergePolicy = MergePolicy.KEEP_LOCAL;
     private ScrollPane scrollPane;
     private VBox dialogContainer;
     private TextField userInput;
     private Button sendButton;
     private Scene scene;
-    private Image user = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
-    private Image duke = new Image(this.getClass().getResourceAsStream("/images/DaDuke.png"));
-    private final String filePath = "tasks.txt";
+    // -Dduke.compressed=true keeps the tasks in a compressed file instead
+    private final String filePath = Boolean.getBoolean("duke.compressed") ? "tasks.dkz" : "tasks.txt";
     private final double vValue = 1.0;
     private final double stageMinHeight = 600.0;
     private final double stageMinWidth = 400.0;
@@ -42,13 +58,31 @@ public class Duke extends Application {
     private final int scollPaneHeight = 535;
     private final double userWidth = 325.0;
     private final double sendButtonWidth = 55.0;
+    // single writer so commands run one at a time, in the order they were entered
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "duke-commands");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // reminders are shown from the command thread so they never interleave with a command
+    private final ReminderScheduler reminders = new ReminderScheduler(Clock.systemDefaultZone(),
+            dueTasks -> commandExecutor.execute(() -> showNotification(ui.showReminders(dueTasks))));
 
     /**
-     * Constructor for initialising duke.Duke.
+     * Constructor for initialising duke.Duke. The saved tasks are not read here,
+     * call {@link #loadTasks()} or {@link #loadTasksAsync()} to load them.
      */
     public Duke() {
         ui = new Ui();
-        storage = new Storage(filePath);
+        storage = new FileStorage(filePath);
+        tasks = new TaskList();
+        Metrics.startDumpingIfConfigured();
+    }
+
+    /**
+     * Loads the saved tasks from the file, starting with an empty list if they cannot be read.
+     */
+    void loadTasks() {
         try {
             tasks = storage.load();
 
@@ -57,8 +91,70 @@ public class Duke extends Application {
         }
     }
 
+    /**
+     * Loads the saved tasks in the background. The load is queued on the command thread,
+     * so any command entered while it is still running only executes after the tasks are loaded.
+     * @return a future that completes with the welcome message once the tasks are loaded
+     */
+    public CompletableFuture<String> loadTasksAsync() {
+        return CompletableFuture.supplyAsync(() -> {
+            loadTasks();
+            watchTaskFile();
+            reminders.watch(tasks);
+            reminders.start();
+            return displayWelcome();
+        }, commandExecutor);
+    }
+
+    /**
+     * Sets what is told about messages that are not replies to a command, such as reminders of due tasks
+     * and changes picked up from the task file after it was edited by another program.
+     * The listener is called on a background thread.
+     * @param listener receives each message
+     */
+    void setNotificationListener(Consumer<String> listener) {
+        notificationListener = listener;
+    }
+
+    private void showNotification(String message) {
+        notificationListener.accept(message);
+    }
+
+    /**
+     * Starts watching the task file so that edits made by other programs are merged into the tasks.
+     * The tasks are still usable without the watcher, so failing to start it is ignored.
+     */
+    private void watchTaskFile() {
+        if (fileWatcher != null) {
+            return;
+        }
+        try {
+            fileWatcher = new TaskFileWatcher(Paths.get(filePath),
+                    () -> commandExecutor.execute(this::mergeExternalChanges));
+        } catch (IOException e) {
+            fileWatcher = null;
+        }
+    }
+
+    /**
+     * Merges the edits made to the task file by another program, telling the listener if anything changed.
+     * Editors often write a file in several steps, so a failed read is left for the next change to retry.
+     */
+    private void mergeExternalChanges() {
+        try {
+            MergeResult result = storage.mergeExternalChanges(tasks, mergePolicy);
+            if (result.hasChanges()) {
+                showNotification(ui.showExternalChanges(result.getAdded(), result.getRemoved(), result.getUpdated()));
+            }
+        } catch (IOException e) {
+            return;
+        }
+    }
+
     String displayWelcome() {
-        return ui.showWelcome(tasks);
+        int corruptRecords = storage.getCorruptRecords();
+        String warning = corruptRecords > 0 ? ui.showCorruptionWarning(corruptRecords) : "";
+        return warning + ui.showWelcome(tasks);
     }
 
     /**
@@ -70,6 +166,7 @@ public class Duke extends Application {
 
     @Override
     public void start(Stage stage) {
+        loadTasks();
         // step 1
         scrollPane = new ScrollPane();
         dialogContainer = new VBox(new Label(ui.showWelcome(tasks)));
@@ -147,8 +244,8 @@ public class Duke extends Application {
         Label userText = new Label(userInput.getText());
         Label dukeText = new Label(getResponse(userInput.getText()));
         dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(userText.getText(), user),
-                DialogBox.getDukeDialog(dukeText.getText(), duke)
+                DialogBox.getUserDialog(userText.getText(), Images.getUserImage()),
+                DialogBox.getDukeDialog(dukeText.getText(), Images.getDukeImage())
         );
         userInput.clear();
     }
@@ -159,9 +256,18 @@ public class Duke extends Application {
      */
     public String getResponse(String input) {
         String fullCommand = input;
-        Command c = new Parser().parse(fullCommand);
-        return c.execute(tasks, ui, storage);
+        return dispatcher.dispatch(fullCommand, tasks, ui, storage);
+
 
+    }
 
+    /**
+     * Returns a response from Duke without blocking the caller. Commands are queued
+     * on a single background thread and executed in the order they were submitted.
+     * @param input the input string from the user
+     * @return a future that completes with Duke's response
+     */
+    public CompletableFuture<String> getResponseAsync(String input) {
+        return CompletableFuture.supplyAsync(() -> getResponse(input), commandExecutor);
     }
 }
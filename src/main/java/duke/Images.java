@@ -0,0 +1,42 @@
+package duke;
+
+import javafx.scene.image.Image;
+
+/**
+ * Shared image resources for the GUI. Each image is only loaded the first time it is asked for,
+ * and is decoded in the background so that it never delays the window from appearing.
+ *
+ * @author Benjamin Lui
+ */
+public class Images {
+    private static Image userImage;
+    private static Image dukeImage;
+
+    private Images() { }
+
+    /**
+     * Returns the picture shown beside the user's messages.
+     * @return the user's picture
+     */
+    public static synchronized Image getUserImage() {
+        if (userImage == null) {
+            userImage = load("/images/DaUser.png");
+        }
+        return userImage;
+    }
+
+    /**
+     * Returns the picture shown beside duke.Duke's messages.
+     * @return duke.Duke's picture
+     */
+    public static synchronized Image getDukeImage() {
+        if (dukeImage == null) {
+            dukeImage = load("/images/DaDuke.png");
+        }
+        return dukeImage;
+    }
+
+    private static Image load(String resourceName) {
+        return new Image(Images.class.getResource(resourceName).toExternalForm(), true);
+    }
+}
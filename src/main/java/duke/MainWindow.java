@@ -1,12 +1,19 @@
 package duke;
 
+import java.util.concurrent.CompletableFuture;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.control.ScrollPane;
+import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.image.Image;
 import javafx.scene.layout.AnchorPane;
-import javafx.scene.layout.VBox;
+import javafx.util.Duration;
 /**
  * Controller for duke.MainWindow. Provides the layout for the other controls.
  *
@@ -14,46 +21,105 @@ import javafx.scene.layout.VBox;
  */
 public class MainWindow extends AnchorPane {
     @FXML
-    private ScrollPane scrollPane;
-    @FXML
-    private VBox dialogContainer;
+    private ListView<Message> dialogList;
     @FXML
     private TextField userInput;
     @FXML
     private Button sendButton;
+    @FXML
+    private ProgressIndicator progressIndicator;
 
     private Duke duke;
 
-    private Image userImage = new Image(this.getClass().getResourceAsStream("/images/DaUser.png"));
-    private Image dukeImage = new Image(this.getClass().getResourceAsStream("/images/DaDuke.png"));
+    private Image userImage = Images.getUserImage();
+    private Image dukeImage = Images.getDukeImage();
+    private final ObservableList<Message> messages = FXCollections.observableArrayList();
+    // oldest messages are dropped past this point so the transcript does not grow without bound
+    private final int maxHistory = 500;
+    // commands that finish within this delay never flash the progress indicator
+    private final PauseTransition progressDelay = new PauseTransition(Duration.millis(200));
+    // only read and written on the JavaFX application thread
+    private int pendingCommands = 0;
 
+    /**
+     * Sets up the conversation pane to reuse its cells for the messages.
+     */
     @FXML
     public void initialize() {
-        scrollPane.vvalueProperty().bind(dialogContainer.heightProperty());
+        dialogList.setItems(messages);
+        dialogList.setCellFactory(listView -> new DialogCell(userImage, dukeImage));
+        progressDelay.setOnFinished(event -> progressIndicator.setVisible(pendingCommands > 0));
     }
 
+    /**
+     * Sets the duke whose replies are shown, including changes picked up from the task file.
+     * @param d the duke to be used
+     */
     public void setDuke(Duke d) {
         duke = d;
+        duke.setNotificationListener(message -> Platform.runLater(() -> addMessages(new Message(message, false))));
     }
 
     /**
-     * Creates two dialog boxes, one echoing user input and the other containing duke.
-     * Duke's reply and then appends them to
-     * the dialog container. Clears the user input after processing.
+     * Adds the user input to the conversation and hands it to duke to be executed in the background.
+     * Duke's reply is added once the command completes. Clears the user input immediately so that
+     * further commands can be queued.
      */
     @FXML
     private void handleUserInput() {
         String input = userInput.getText();
-        String response = duke.getResponse(input);
-        dialogContainer.getChildren().addAll(
-                DialogBox.getUserDialog(input, userImage),
-                DialogBox.getDukeDialog(response, dukeImage)
-        );
+        addMessages(new Message(input, true));
         userInput.clear();
+        showReply(duke.getResponseAsync(input));
+    }
+
+    private void commandStarted() {
+        pendingCommands++;
+        if (pendingCommands == 1) {
+            progressDelay.playFromStart();
+        }
+    }
+
+    private void commandFinished() {
+        pendingCommands--;
+        if (pendingCommands == 0) {
+            progressDelay.stop();
+            progressIndicator.setVisible(false);
+        }
     }
 
+    /**
+     * Starts loading duke's tasks in the background and shows the welcome message once they are loaded.
+     * The window stays responsive while loading, and commands entered meanwhile are queued behind it.
+     */
     @FXML
     public void setChildren() {
-        dialogContainer.getChildren().addAll(DialogBox.getDukeDialog(duke.displayWelcome(), dukeImage));
+        showReply(duke.loadTasksAsync());
+    }
+
+    /**
+     * Adds duke's reply to the conversation on the JavaFX application thread once it is ready.
+     * @param pendingReply the reply that is still being computed
+     */
+    private void showReply(CompletableFuture<String> pendingReply) {
+        commandStarted();
+        pendingReply.whenComplete((response, error) -> Platform.runLater(() -> {
+            String reply = error == null ? response : "OOPS!!! Something went wrong: " + error.getMessage();
+            addMessages(new Message(reply, false));
+            commandFinished();
+        }));
+    }
+
+    /**
+     * Appends the messages to the conversation, trims the oldest ones beyond the history limit
+     * and scrolls to the latest message.
+     * @param newMessages the messages to be shown
+     */
+    private void addMessages(Message... newMessages) {
+        messages.addAll(newMessages);
+        if (messages.size() > maxHistory) {
+            messages.remove(0, messages.size() - maxHistory);
+        }
+        dialogList.scrollTo(messages.size() - 1);
     }
 }
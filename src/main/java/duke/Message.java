@@ -0,0 +1,31 @@
+package duke;
+
+/**
+ * A single entry in the conversation between the user and duke.Duke.
+ * Only the text and the speaker are kept so that the transcript stays cheap to hold,
+ * the dialog nodes themselves are created and reused by the list cells.
+ *
+ * @author Benjamin Lui
+ */
+public class Message {
+    private final String text;
+    private final boolean isFromUser;
+
+    /**
+     * Constructor for a message in the conversation.
+     * @param text the text of the message
+     * @param isFromUser whether the message was sent by the user
+     */
+    public Message(String text, boolean isFromUser) {
+        this.text = text;
+        this.isFromUser = isFromUser;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean isFromUser() {
+        return isFromUser;
+    }
+}
@@ -0,0 +1,27 @@
+package duke.command;
+
+import java.io.IOException;
+
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'archive' command.
+ *
+ * @author Benjamin Lui
+ */
+public class ArchiveCommand extends Command {
+    /**
+     * Executes the archive command, moving the done tasks out of the list into the archive.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        try {
+            int archived = storage.archive(taskList);
+            return ui.archivedMsg(archived) + ui.showListLength(taskList);
+        } catch (IOException ioe) {
+            return ui.showError("Error writing to the archive");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package duke.command;
 
+import java.io.IOException;
+
 import duke.storage.Storage;
 import duke.task.TaskList;
 import duke.ui.Ui;
@@ -16,7 +18,11 @@ public class ByeCommand extends Command {
      */
     @Override
     public String execute(TaskList taskList, Ui ui, Storage storage) {
-        storage.save(taskList);
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
         return ui.showBye();
 
     }
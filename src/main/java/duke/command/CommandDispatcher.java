@@ -0,0 +1,54 @@
+package duke.command;
+
+import duke.metrics.CommandExecuteEvent;
+import duke.metrics.CommandParseEvent;
+import duke.metrics.Metrics;
+import duke.parser.Parser;
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Parses a line of user input and executes the resulting command, recording metrics
+ * and Flight Recorder events for both steps. Used by both the GUI and the server.
+ *
+ * @author Benjamin Lui
+ */
+public class CommandDispatcher {
+    private final Parser parser = new Parser();
+
+    /**
+     * Parses and executes a line of user input.
+     * @param input the line of user input
+     * @param tasks the list of tasks the command is executed against
+     * @param ui the UI components available
+     * @param storage the location to write the file back to (if necessary)
+     * @return the response of the command
+     */
+    public String dispatch(String input, TaskList tasks, Ui ui, Storage storage) {
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.begin();
+        long start = Metrics.startTimer();
+        Command c = parser.parse(input);
+        long parsed = Metrics.recordParse(start);
+        parseEvent.inputLength = input.length();
+        parseEvent.commandClass = c.getClass();
+        parseEvent.commit();
+
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        executeEvent.begin();
+        String response;
+        // listeners see everything a command changed as one batch
+        tasks.beginBatch();
+        try {
+            response = c.execute(tasks, ui, storage);
+        } finally {
+            tasks.endBatch();
+        }
+        Metrics.recordExecute(c.getClass().getSimpleName(), parsed);
+        executeEvent.commandClass = c.getClass();
+        executeEvent.taskCount = tasks.size();
+        executeEvent.commit();
+        return response;
+    }
+}
@@ -1,6 +1,9 @@
 package duke.command;
 
+import java.io.IOException;
+
 import duke.storage.Storage;
+import duke.task.Change;
 import duke.task.DeadLine;
 import duke.task.TaskList;
 import duke.ui.Ui;
@@ -58,7 +61,12 @@ public class DeadLineCommand extends Command {
             return ui.showError("To do event, " + deadLine.toString() + " already exists!");
         }
         taskList.add(deadLine);
-        storage.save(taskList);
+        taskList.getUndoLog().record("add " + deadLine, Change.added(taskList.size() - 1, deadLine));
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
         return ui.addMessage() + ui.showTask(deadLine) + ui.showListLength(taskList);
     }
 }
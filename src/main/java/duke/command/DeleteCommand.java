@@ -1,6 +1,9 @@
 package duke.command;
 
+import java.io.IOException;
+
 import duke.storage.Storage;
+import duke.task.Change;
 import duke.task.Task;
 import duke.task.TaskList;
 import duke.ui.Ui;
@@ -27,7 +30,12 @@ public class DeleteCommand extends Command {
     @Override
     public String execute(TaskList taskList, Ui ui, Storage storage) {
         Task removed = taskList.delete(taskNumber);
-        storage.save(taskList);
+        taskList.getUndoLog().record("delete " + removed, Change.removed(taskNumber, removed));
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
         return ui.deletedMsg() + ui.showTask(removed) + ui.showListLength(taskList);
     }
 }
@@ -1,6 +1,12 @@
 package duke.command;
 
+import java.io.IOException;
+import java.time.LocalDate;
+
 import duke.storage.Storage;
+import duke.task.Change;
+import duke.task.RecurringTask;
+import duke.task.Task;
 import duke.task.TaskList;
 import duke.ui.Ui;
 
@@ -25,12 +31,39 @@ public class DoneCommand extends Command {
      */
     @Override
     public String execute(TaskList taskList, Ui ui, Storage storage) {
+        Task task = taskNum >= 0 && taskNum < taskList.size() ? taskList.getAllTasks().get(taskNum) : null;
+        if (task instanceof RecurringTask) {
+            return completeOccurrence((RecurringTask) task, taskList, ui, storage);
+        }
+        boolean isChanged = task != null && !task.isDone();
         taskList.done(taskNum);
-        storage.save(taskList);
+        if (isChanged) {
+            taskList.getUndoLog().record("done " + task, Change.done(task));
+        }
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
         try {
             return ui.doneTask(taskList.getAllTasks().get(taskNum));
         } catch (IndexOutOfBoundsException ioobe) {
             return outOfBoundsErrorMessage;
         }
     }
+
+    /**
+     * Marks the earliest open occurrence of a recurring task as done, leaving the task in the list.
+     */
+    private String completeOccurrence(RecurringTask task, TaskList taskList, Ui ui, Storage storage) {
+        LocalDate dueDate = task.getDueDate();
+        taskList.completeOccurrence(task);
+        taskList.getUndoLog().record("done " + task.getDescription() + " due " + dueDate, Change.occurrenceDone(task));
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
+        return ui.doneOccurrence(task, dueDate);
+    }
 }
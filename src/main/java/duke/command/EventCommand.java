@@ -1,6 +1,9 @@
 package duke.command;
 
+import java.io.IOException;
+
 import duke.storage.Storage;
+import duke.task.Change;
 import duke.task.Event;
 import duke.task.TaskList;
 import duke.ui.Ui;
@@ -51,7 +54,12 @@ public class EventCommand extends Command {
             return ui.showError("To do event, " + event.toString() + " already exists!");
         }
         taskList.add(event);
-        storage.save(taskList);
+        taskList.getUndoLog().record("add " + event, Change.added(taskList.size() - 1, event));
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
         return ui.addMessage() + ui.showTask(event) + ui.showListLength(taskList);
     }
 }
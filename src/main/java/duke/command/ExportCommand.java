@@ -0,0 +1,46 @@
+package duke.command;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import duke.storage.Storage;
+import duke.storage.TaskTransfer;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'export' command.
+ *
+ * @author Benjamin Lui
+ */
+public class ExportCommand extends Command {
+    private final String file;
+
+    /**
+     * Constructor for the export command.
+     * @param file the CSV or JSON Lines file to export the tasks to
+     */
+    public ExportCommand(String file) {
+        this.file = file;
+    }
+
+    /**
+     * Executes the export command.
+     * Commands run one at a time, so the list cannot change between taking the snapshot and writing it out.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        if (!TaskTransfer.isSupported(file)) {
+            return ui.showError("OOPS!!! I can only export " + TaskTransfer.CSV_EXTENSION + " and "
+                    + TaskTransfer.JSON_LINES_EXTENSION + " files.\n");
+        }
+        try {
+            int count = TaskTransfer.export(new ArrayList<Task>(taskList.getAllTasks()), Paths.get(file));
+            return ui.exportedMsg(count, file);
+        } catch (IOException ioe) {
+            return ui.showError("Error writing to " + file);
+        }
+    }
+}
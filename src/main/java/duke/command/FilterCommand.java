@@ -0,0 +1,43 @@
+package duke.command;
+
+import java.util.ArrayList;
+
+import duke.query.Query;
+import duke.storage.Storage;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'filter' command.
+ *
+ * @author Benjamin Lui
+ */
+public class FilterCommand extends Command {
+    private Query query;
+    private String errorMessage;
+
+    /**
+     * Constructor for the filter command, which compiles the query straight away.
+     * @param query the text of the query to filter the tasks with
+     */
+    public FilterCommand(String query) {
+        try {
+            this.query = Query.compile(query);
+        } catch (IllegalArgumentException iae) {
+            this.errorMessage = iae.getMessage();
+        }
+    }
+
+    /**
+     * Executes the filter command.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        if (query == null) {
+            return ui.showError(errorMessage);
+        }
+        ArrayList<Task> matches = query.run(taskList);
+        return ui.matchingTasks() + ui.list(matches);
+    }
+}
@@ -1,7 +1,9 @@
 package duke.command;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
+import duke.metrics.Metrics;
 import duke.storage.Storage;
 import duke.task.Task;
 import duke.task.TaskList;
@@ -14,12 +16,24 @@ import duke.ui.Ui;
  */
 public class FindCommand extends Command {
     private String keyword;
+    private final boolean isIncludingArchive;
+
     /**
      * Constructor for the find command.
      * @param keyword the keyword to search for
      */
     public FindCommand(String keyword) {
+        this(keyword, false);
+    }
+
+    /**
+     * Constructor for the find command.
+     * @param keyword the keyword to search for
+     * @param isIncludingArchive whether to search the archived tasks as well
+     */
+    public FindCommand(String keyword, boolean isIncludingArchive) {
         this.keyword = keyword;
+        this.isIncludingArchive = isIncludingArchive;
     }
 
     /**
@@ -28,8 +42,16 @@ public class FindCommand extends Command {
     @Override
     public String execute(TaskList tasks, Ui ui, Storage storage) {
         ArrayList<Task> res = new ArrayList<Task>();
-        tasks
-            .getAllTasks()
+        ArrayList<Task> searched = tasks.getAllTasks();
+        if (isIncludingArchive) {
+            searched = new ArrayList<Task>(searched);
+            try {
+                searched.addAll(storage.loadArchive().getAllTasks());
+            } catch (IOException ioe) {
+                return ui.showError("Error reading the archive");
+            }
+        }
+        searched
             .stream()
             .forEach((task -> {
                 if (task.toString().contains(keyword)) {
@@ -37,6 +59,7 @@ public class FindCommand extends Command {
                 }
             }));
 
+        Metrics.recordTasksScanned(searched.size());
         return ui.matchingTasks() + ui.list(res);
     }
 }
@@ -0,0 +1,58 @@
+package duke.command;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+
+import duke.storage.ImportResult;
+import duke.storage.Storage;
+import duke.storage.TaskTransfer;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'import' command.
+ *
+ * @author Benjamin Lui
+ */
+public class ImportCommand extends Command {
+    private final String file;
+
+    /**
+     * Constructor for the import command.
+     * @param file the CSV or JSON Lines file to import the tasks from
+     */
+    public ImportCommand(String file) {
+        this.file = file;
+    }
+
+    /**
+     * Executes the import command, adding the tasks in the file and saving the list once at the end.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        if (!TaskTransfer.isSupported(file)) {
+            return ui.showError("OOPS!!! I can only import " + TaskTransfer.CSV_EXTENSION + " and "
+                    + TaskTransfer.JSON_LINES_EXTENSION + " files.\n");
+        }
+        ImportResult result;
+        try {
+            result = TaskTransfer.importTasks(Paths.get(file), taskList);
+        } catch (NoSuchFileException nsfe) {
+            return ui.showError("OOPS!!! I cannot find " + file + "\n");
+        } catch (IOException ioe) {
+            return ui.showError("Error reading " + file + ", so none of its tasks were imported");
+        }
+        if (result.getImported() > 0) {
+            // an import can add millions of tasks, too many to keep around to be undone one by one
+            taskList.getUndoLog().clear();
+            try {
+                storage.save(taskList);
+            } catch (IOException ioe) {
+                return ui.showSavingError();
+            }
+        }
+        return ui.importedMsg(result.getImported(), result.getDuplicates(), result.getInvalid())
+                + ui.showListLength(taskList);
+    }
+}
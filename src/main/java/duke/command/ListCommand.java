@@ -1,6 +1,15 @@
 package duke.command;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
 import duke.storage.Storage;
+import duke.task.DeadLine;
+import duke.task.RecurringTask;
+import duke.task.Task;
 import duke.task.TaskList;
 import duke.ui.Ui;
 
@@ -10,11 +19,53 @@ import duke.ui.Ui;
  * @author Benjamin Lui
  */
 public class ListCommand extends Command {
+    // how far ahead the occurrences of recurring tasks are listed
+    private static final int UPCOMING_DAYS = 28;
+
+    private final boolean isArchived;
+
+    /**
+     * Constructor for the list command, listing the tasks that have not been archived.
+     */
+    public ListCommand() {
+        this(false);
+    }
+
+    /**
+     * Constructor for the list command.
+     * @param isArchived whether to list the archived tasks instead of the current ones
+     */
+    public ListCommand(boolean isArchived) {
+        this.isArchived = isArchived;
+    }
+
     /**
      * Executes the list command.
      */
     @Override
     public String execute(TaskList taskList, Ui ui, Storage storage) {
-        return ui.listView(taskList.getAllTasks());
+        if (!isArchived) {
+            return ui.listView(taskList.getAllTasks()) + ui.upcomingView(upcomingOccurrences(taskList));
+        }
+        try {
+            return ui.archivedListView(storage.loadArchive().getAllTasks());
+        } catch (IOException ioe) {
+            return ui.showError("Error reading the archive");
+        }
+    }
+
+    /**
+     * Works out the occurrences of the recurring tasks that are due over the next few weeks.
+     */
+    private List<DeadLine> upcomingOccurrences(TaskList taskList) {
+        LocalDate today = LocalDate.now();
+        List<DeadLine> occurrences = new ArrayList<DeadLine>();
+        for (Task task : taskList.getAllTasks()) {
+            if (task instanceof RecurringTask) {
+                occurrences.addAll(((RecurringTask) task).occurrencesBetween(today, today.plusDays(UPCOMING_DAYS)));
+            }
+        }
+        occurrences.sort(Comparator.comparing(DeadLine::getDueDate));
+        return occurrences;
     }
 }
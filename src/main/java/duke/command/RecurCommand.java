@@ -0,0 +1,67 @@
+package duke.command;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+import duke.storage.Storage;
+import duke.task.Change;
+import duke.task.RecurringTask;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'recur' command.
+ *
+ * @author Benjamin Lui
+ */
+public class RecurCommand extends Command {
+    private final String errorMessage = "OOPS!!! Recurring tasks are written as: "
+            + "recur <task> /every week|month /from YYYY-MM-DD\n";
+
+    private String task;
+
+    /**
+     * Constructor for the recur command.
+     * @param task the recurring task, followed by how often and from when it is due
+     */
+    public RecurCommand(String task) {
+        this.task = task;
+    }
+
+    /**
+     * Executes the recur command. If the rule cannot be read, nothing is added to the list.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        int every = task.indexOf("/every");
+        int from = task.indexOf("/from");
+        if (every < 0 || from < every) {
+            return ui.showError(errorMessage);
+        }
+        String description = task.substring(0, every).trim();
+        RecurringTask recurringTask;
+        try {
+            RecurringTask.Frequency frequency = RecurringTask.Frequency.valueOf(
+                    task.substring(every + "/every".length(), from).trim().toUpperCase());
+            LocalDate start = LocalDate.parse(task.substring(from + "/from".length()).trim());
+            recurringTask = new RecurringTask(description, frequency, start);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ui.showError(errorMessage);
+        }
+        if (description.isEmpty()) {
+            return ui.showError(errorMessage);
+        }
+        if (taskList.contains(recurringTask)) {
+            return ui.showError("Recurring task, " + recurringTask.toString() + " already exists!");
+        }
+        taskList.add(recurringTask);
+        taskList.getUndoLog().record("add " + recurringTask, Change.added(taskList.size() - 1, recurringTask));
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
+        return ui.addMessage() + ui.showTask(recurringTask) + ui.showListLength(taskList);
+    }
+}
@@ -0,0 +1,31 @@
+package duke.command;
+
+import java.io.IOException;
+
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'redo' command.
+ *
+ * @author Benjamin Lui
+ */
+public class RedoCommand extends Command {
+    /**
+     * Executes the redo command.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        String description = taskList.getUndoLog().redo(taskList);
+        if (description == null) {
+            return ui.showError("There is nothing to redo!");
+        }
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
+        return ui.redoneMsg(description) + ui.showListLength(taskList);
+    }
+}
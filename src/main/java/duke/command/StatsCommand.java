@@ -0,0 +1,21 @@
+package duke.command;
+
+import duke.metrics.Metrics;
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'stats' command.
+ *
+ * @author Benjamin Lui
+ */
+public class StatsCommand extends Command {
+    /**
+     * Executes the stats command.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        return Metrics.report();
+    }
+}
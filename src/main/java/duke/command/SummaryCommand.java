@@ -0,0 +1,22 @@
+package duke.command;
+
+import java.time.LocalDate;
+
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'summary' command.
+ *
+ * @author Benjamin Lui
+ */
+public class SummaryCommand extends Command {
+    /**
+     * Executes the summary command.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        return ui.showSummary(taskList.getCounters(), LocalDate.now());
+    }
+}
@@ -1,6 +1,9 @@
 package duke.command;
 
+import java.io.IOException;
+
 import duke.storage.Storage;
+import duke.task.Change;
 import duke.task.TaskList;
 import duke.task.Todo;
 import duke.ui.Ui;
@@ -36,7 +39,12 @@ public class ToDoCommand extends Command {
             return ui.showError("To do event, " + taskToDo.toString() + " already exists!");
         }
         taskList.add(taskToDo);
-        storage.save(taskList);
+        taskList.getUndoLog().record("add " + taskToDo, Change.added(taskList.size() - 1, taskToDo));
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
         return ui.addMessage() + ui.showTask(taskToDo) + ui.showListLength(taskList);
 
     }
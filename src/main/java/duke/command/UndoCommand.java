@@ -0,0 +1,31 @@
+package duke.command;
+
+import java.io.IOException;
+
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Contains the executables when the user uses the 'undo' command.
+ *
+ * @author Benjamin Lui
+ */
+public class UndoCommand extends Command {
+    /**
+     * Executes the undo command.
+     */
+    @Override
+    public String execute(TaskList taskList, Ui ui, Storage storage) {
+        String description = taskList.getUndoLog().undo(taskList);
+        if (description == null) {
+            return ui.showError("There is nothing to undo!");
+        }
+        try {
+            storage.save(taskList);
+        } catch (IOException ioe) {
+            return ui.showSavingError();
+        }
+        return ui.undoneMsg(description) + ui.showListLength(taskList);
+    }
+}
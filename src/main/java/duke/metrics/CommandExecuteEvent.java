@@ -0,0 +1,25 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for executing one command against a list of tasks.
+ *
+ * @author Benjamin Lui
+ */
+@Name("duke.CommandExecute")
+@Label("Command Execute")
+@Category({"Duke", "Command"})
+@Description("Execution of one command against a list of tasks")
+public class CommandExecuteEvent extends Event {
+    @Label("Command Class")
+    public Class<?> commandClass;
+
+    @Label("Task Count")
+    @Description("Number of tasks in the list after the command")
+    public int taskCount;
+}
@@ -0,0 +1,24 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for parsing one line of user input into a command.
+ *
+ * @author Benjamin Lui
+ */
+@Name("duke.CommandParse")
+@Label("Command Parse")
+@Category({"Duke", "Command"})
+@Description("Parsing of one line of user input into a command")
+public class CommandParseEvent extends Event {
+    @Label("Input Length")
+    public int inputLength;
+
+    @Label("Command Class")
+    public Class<?> commandClass;
+}
@@ -0,0 +1,24 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for building the word and due date indexes of a list of tasks.
+ *
+ * @author Benjamin Lui
+ */
+@Name("duke.IndexBuild")
+@Label("Index Build")
+@Category({"Duke", "Query"})
+@Description("Indexing the tasks already in a list, the first time it is queried")
+public class IndexBuildEvent extends Event {
+    @Label("Task Count")
+    public int taskCount;
+
+    @Label("Word Count")
+    public int wordCount;
+}
@@ -0,0 +1,98 @@
+package duke.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds, in the style of HdrHistogram.
+ * Values are grouped by their highest set bit, and every power of two is split into
+ * {@value #SUB_BUCKETS} linear buckets, so any recorded value is off by at most 12.5%
+ * while the histogram stays a fixed size no matter how many values are recorded.
+ *
+ * @author Benjamin Lui
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = Long.SIZE * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one value. Negative values are recorded as 0.
+     * @param value the value to be recorded
+     */
+    public void record(long value) {
+        long nonNegative = Math.max(0, value);
+        counts.incrementAndGet(indexOf(nonNegative));
+        count.increment();
+        total.add(nonNegative);
+        max.accumulateAndGet(nonNegative, Math::max);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns an upper bound of the value that the given fraction of the recorded values are at or below.
+     * @param fraction the percentile as a fraction between 0 and 1, such as 0.99
+     * @return the value at the percentile, or 0 if nothing was recorded
+     */
+    public long percentile(double fraction) {
+        long recorded = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            recorded += counts.get(i);
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * recorded));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowestValueAt(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket)) << shift;
+    }
+
+    static long highestValueAt(int index) {
+        if (index + 1 >= BUCKETS) {
+            return Long.MAX_VALUE;
+        }
+        return lowestValueAt(index + 1) - 1;
+    }
+}
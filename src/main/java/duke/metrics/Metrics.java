@@ -0,0 +1,187 @@
+package duke.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the time spent parsing and executing each type of command, and loading and saving tasks.
+ * Metrics are only collected when duke.Duke is started with {@code -Dduke.metrics=true}; otherwise
+ * every method returns straight away. Setting {@code -Dduke.metrics.file=<path>} also dumps the
+ * metrics to that file every {@code duke.metrics.period} seconds (60 by default).
+ *
+ * @author Benjamin Lui
+ */
+public class Metrics {
+    private static final boolean IS_ENABLED = Boolean.getBoolean("duke.metrics");
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final long DEFAULT_DUMP_PERIOD_SECONDS = 60;
+
+    private static final ConcurrentHashMap<String, LatencyHistogram> executeLatencies =
+            new ConcurrentHashMap<String, LatencyHistogram>();
+    private static final LatencyHistogram parseLatency = new LatencyHistogram();
+    private static final LatencyHistogram loadLatency = new LatencyHistogram();
+    private static final LatencyHistogram saveLatency = new LatencyHistogram();
+    private static final LongAdder bytesRead = new LongAdder();
+    private static final LongAdder bytesWritten = new LongAdder();
+    private static final LongAdder tasksScanned = new LongAdder();
+    private static ScheduledExecutorService dumper;
+
+    private Metrics() { }
+
+    public static boolean isEnabled() {
+        return IS_ENABLED;
+    }
+
+    /**
+     * Returns the start time of an operation to be measured.
+     * @return the current time in nanoseconds, or 0 if metrics are off
+     */
+    public static long startTimer() {
+        return IS_ENABLED ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time taken to parse a command.
+     * @param start the time the parsing started
+     * @return the time the parsing ended, to be used as the start of the execution
+     */
+    public static long recordParse(long start) {
+        if (!IS_ENABLED) {
+            return 0;
+        }
+        long end = System.nanoTime();
+        parseLatency.record(end - start);
+        return end;
+    }
+
+    /**
+     * Records the time taken to execute a command.
+     * @param commandType the type of the command, such as its class name
+     * @param start the time the execution started
+     */
+    public static void recordExecute(String commandType, long start) {
+        if (!IS_ENABLED) {
+            return;
+        }
+        long latency = System.nanoTime() - start;
+        executeLatencies.computeIfAbsent(commandType, type -> new LatencyHistogram()).record(latency);
+    }
+
+    /**
+     * Records the time taken to load the tasks and the size of the file they were loaded from.
+     * @param start the time the load started
+     * @param bytes the number of bytes read
+     */
+    public static void recordLoad(long start, long bytes) {
+        if (!IS_ENABLED) {
+            return;
+        }
+        loadLatency.record(System.nanoTime() - start);
+        bytesRead.add(bytes);
+    }
+
+    /**
+     * Records the time taken to save the tasks and the size of the file they were saved to.
+     * @param start the time the save started
+     * @param bytes the number of bytes written
+     */
+    public static void recordSave(long start, long bytes) {
+        if (!IS_ENABLED) {
+            return;
+        }
+        saveLatency.record(System.nanoTime() - start);
+        bytesWritten.add(bytes);
+    }
+
+    /**
+     * Records the number of tasks that an operation had to look at.
+     * @param count the number of tasks looked at
+     */
+    public static void recordTasksScanned(int count) {
+        if (!IS_ENABLED) {
+            return;
+        }
+        tasksScanned.add(count);
+    }
+
+    /**
+     * Returns a summary of the metrics collected so far.
+     * @return the counts and latency percentiles of each operation
+     */
+    public static String report() {
+        if (!IS_ENABLED) {
+            return "Metrics are off. Start Duke with -Dduke.metrics=true to collect them.\n";
+        }
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-18s %8s %10s %10s %10s %10s%n",
+                "operation", "count", "p50(us)", "p99(us)", "p999(us)", "max(us)"));
+        Map<String, LatencyHistogram> sortedLatencies = new TreeMap<String, LatencyHistogram>(executeLatencies);
+        for (Map.Entry<String, LatencyHistogram> entry : sortedLatencies.entrySet()) {
+            appendRow(report, entry.getKey(), entry.getValue());
+        }
+        appendRow(report, "parse", parseLatency);
+        appendRow(report, "load", loadLatency);
+        appendRow(report, "save", saveLatency);
+        report.append("bytes read: ").append(bytesRead.sum()).append('\n');
+        report.append("bytes written: ").append(bytesWritten.sum()).append('\n');
+        report.append("tasks scanned: ").append(tasksScanned.sum()).append('\n');
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, String operation, LatencyHistogram histogram) {
+        report.append(String.format("%-18s %8d %10.1f %10.1f %10.1f %10.1f%n",
+                operation,
+                histogram.getCount(),
+                histogram.percentile(0.5) / NANOS_PER_MICRO,
+                histogram.percentile(0.99) / NANOS_PER_MICRO,
+                histogram.percentile(0.999) / NANOS_PER_MICRO,
+                histogram.getMax() / NANOS_PER_MICRO));
+    }
+
+    /**
+     * Starts dumping the metrics to the file set in {@code duke.metrics.file}, if metrics are on and a file is set.
+     */
+    public static synchronized void startDumpingIfConfigured() {
+        String file = System.getProperty("duke.metrics.file");
+        if (!IS_ENABLED || file == null || dumper != null) {
+            return;
+        }
+        long period = Long.getLong("duke.metrics.period", DEFAULT_DUMP_PERIOD_SECONDS);
+        Path path = Paths.get(file);
+        dumper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> dump(path), period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the metrics to the file. If the file cannot be written, the error is reported once on the
+     * error stream, away from the replies to commands, and dumping stops.
+     * @param path the file the metrics are written to
+     */
+    private static void dump(Path path) {
+        try {
+            Files.write(path, report().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ioe) {
+            System.err.println("Error writing metrics to " + path + ", no longer dumping them: " + ioe.getMessage());
+            stopDumping();
+        }
+    }
+
+    private static synchronized void stopDumping() {
+        // the dumper is kept so that it is not started again
+        dumper.shutdown();
+    }
+}
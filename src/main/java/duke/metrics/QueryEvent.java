@@ -0,0 +1,30 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for planning and running a query over a list of tasks.
+ *
+ * @author Benjamin Lui
+ */
+@Name("duke.Query")
+@Label("Query")
+@Category({"Duke", "Query"})
+@Description("Filtering a list of tasks with a compiled query")
+public class QueryEvent extends Event {
+    @Label("Query")
+    public String query;
+
+    @Label("Access Path")
+    public String accessPath;
+
+    @Label("Tasks Examined")
+    public int tasksExamined;
+
+    @Label("Matches")
+    public int matches;
+}
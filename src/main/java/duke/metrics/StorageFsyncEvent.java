@@ -0,0 +1,26 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for forcing a written task file to disk.
+ *
+ * @author Benjamin Lui
+ */
+@Name("duke.StorageFsync")
+@Label("Storage Fsync")
+@Category({"Duke", "Storage"})
+@Description("Forcing a written task file to disk")
+public class StorageFsyncEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+}
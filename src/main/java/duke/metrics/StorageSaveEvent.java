@@ -0,0 +1,29 @@
+package duke.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event for encoding and writing a task file.
+ *
+ * @author Benjamin Lui
+ */
+@Name("duke.StorageSave")
+@Label("Storage Save")
+@Category({"Duke", "Storage"})
+@Description("Encoding and writing a task file")
+public class StorageSaveEvent extends Event {
+    @Label("Path")
+    public String path;
+
+    @Label("File Size")
+    @DataAmount
+    public long fileSize;
+
+    @Label("Task Count")
+    public int taskCount;
+}
@@ -1,5 +1,6 @@
 package duke.parser;
 
+import duke.command.ArchiveCommand;
 import duke.command.ByeCommand;
 import duke.command.Command;
 import duke.command.DeadLineCommand;
@@ -7,9 +8,17 @@ import duke.command.DeleteCommand;
 import duke.command.DoneCommand;
 import duke.command.ErrorCommand;
 import duke.command.EventCommand;
+import duke.command.ExportCommand;
+import duke.command.FilterCommand;
 import duke.command.FindCommand;
+import duke.command.ImportCommand;
 import duke.command.ListCommand;
+import duke.command.RecurCommand;
+import duke.command.RedoCommand;
+import duke.command.StatsCommand;
+import duke.command.SummaryCommand;
 import duke.command.ToDoCommand;
+import duke.command.UndoCommand;
 
 
 /**
@@ -19,6 +28,12 @@ import duke.command.ToDoCommand;
  */
 
 public class Parser {
+    private static final String ARCHIVED_FLAG = "/archived";
+    private static final String FILTER_KEYWORD = "filter ";
+    private static final String RECUR_KEYWORD = "recur ";
+    private static final String IMPORT_KEYWORD = "import ";
+    private static final String EXPORT_KEYWORD = "export ";
+
     /**
      * Processes the commands from duke.Duke.
      * @param command the command from duke.Duke
@@ -28,9 +43,40 @@ public class Parser {
         if (command.equals("list")) {
             return new ListCommand();
 
+        } else if (command.equals("list " + ARCHIVED_FLAG)) {
+            return new ListCommand(true);
+
+        } else if (command.equals("archive")) {
+            return new ArchiveCommand();
+
         } else if (command.equals("bye")) {
             return new ByeCommand();
 
+        } else if (command.equals("stats")) {
+            return new StatsCommand();
+
+        } else if (command.equals("summary")) {
+            return new SummaryCommand();
+
+        } else if (command.equals("undo")) {
+            return new UndoCommand();
+
+        } else if (command.equals("redo")) {
+            return new RedoCommand();
+
+        } else if (command.startsWith(FILTER_KEYWORD)) {
+            // checked before the other commands, as queries often mention their names
+            return new FilterCommand(command.substring(FILTER_KEYWORD.length()));
+
+        } else if (command.startsWith(RECUR_KEYWORD)) {
+            return new RecurCommand(command.substring(RECUR_KEYWORD.length()));
+
+        } else if (command.startsWith(IMPORT_KEYWORD)) {
+            return new ImportCommand(command.substring(IMPORT_KEYWORD.length()).trim());
+
+        } else if (command.startsWith(EXPORT_KEYWORD)) {
+            return new ExportCommand(command.substring(EXPORT_KEYWORD.length()).trim());
+
         } else if (command.contains("todo")) {
             return prepToDo(command);
 
@@ -93,9 +139,8 @@ public class Parser {
      * @return Done command to be executed
      */
     Command prepDone(String command) {
-        int i = Integer.parseInt(
-                String.valueOf(
-                    command.toCharArray()[command.length() - 1])) - 1;
+        int startIndex = command.indexOf("done") + "done".length();
+        int i = Integer.parseInt(command.substring(startIndex).trim()) - 1;
         return new DoneCommand(i);
     }
 
@@ -105,9 +150,8 @@ public class Parser {
      * @return Delete command to be executed
      */
     Command prepDelete(String command) {
-        int i = Integer.parseInt(
-                String.valueOf(
-                    command.toCharArray()[command.length() - 1])) - 1;
+        int startIndex = command.indexOf("delete") + "delete".length();
+        int i = Integer.parseInt(command.substring(startIndex).trim()) - 1;
         return new DeleteCommand(i);
     }
 
@@ -120,6 +164,9 @@ public class Parser {
         int startIndex = "find".length();
         int endIndex = command.length();
         String task = command.substring(startIndex, endIndex);
+        if (task.endsWith(ARCHIVED_FLAG)) {
+            return new FindCommand(task.substring(0, task.length() - ARCHIVED_FLAG.length()).stripTrailing(), true);
+        }
         return new FindCommand(task);
     }
 }
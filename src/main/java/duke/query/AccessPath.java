@@ -0,0 +1,61 @@
+package duke.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import duke.task.Task;
+
+/**
+ * Way of finding the tasks that may match part of a query through an index, instead of going through
+ * every task in the list. The candidates are the union of one or more groups of tasks from the index,
+ * which may overlap.
+ *
+ * @author Benjamin Lui
+ */
+class AccessPath {
+    private final String name;
+    private final List<Collection<Task>> groups;
+    private final long estimate;
+
+    private AccessPath(String name, List<Collection<Task>> groups) {
+        this.name = name;
+        this.groups = groups;
+        long total = 0;
+        for (Collection<Task> group : groups) {
+            total += group.size();
+        }
+        this.estimate = total;
+    }
+
+    /**
+     * Returns the access path through some groups of tasks from an index.
+     * @param name describes the index used, for tracing
+     * @param groups the groups of tasks that the candidates are taken from
+     */
+    static AccessPath of(String name, Collection<? extends Collection<Task>> groups) {
+        return new AccessPath(name, new ArrayList<Collection<Task>>(groups));
+    }
+
+    /**
+     * Returns the access path that goes through the candidates of both paths.
+     * @param other the other access path
+     */
+    AccessPath union(AccessPath other) {
+        List<Collection<Task>> both = new ArrayList<Collection<Task>>(groups);
+        both.addAll(other.groups);
+        return new AccessPath(name + " | " + other.name, both);
+    }
+
+    String getName() {
+        return name;
+    }
+
+    List<Collection<Task>> getGroups() {
+        return groups;
+    }
+
+    long getEstimate() {
+        return estimate;
+    }
+}
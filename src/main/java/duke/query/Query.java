@@ -0,0 +1,104 @@
+package duke.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import duke.metrics.Metrics;
+import duke.metrics.QueryEvent;
+import duke.task.RoaringBitmap;
+import duke.task.Task;
+import duke.task.TaskIndex;
+import duke.task.TaskList;
+
+/**
+ * Query over a list of tasks, compiled once into a tree of predicates, for example
+ * {@code type:deadline !done due<2026-11-01 "report"}. When it is run, the planner picks the cheapest way
+ * to find the candidates: the word index, the due date index, the tag index, or going through every task,
+ * and only the candidates are tested against the whole query. A query made only of tags, such as
+ * {@code #work !#home}, is answered from the tag index without testing any task.
+ *
+ * @author Benjamin Lui
+ */
+public class Query {
+    private static final String SEQUENTIAL_SCAN = "sequential scan";
+    private static final String TAG_BITMAP = "tag bitmap";
+
+    private final String text;
+    private final QueryNode root;
+    private String lastAccessPath = SEQUENTIAL_SCAN;
+
+    private Query(String text, QueryNode root) {
+        this.text = text;
+        this.root = root;
+    }
+
+    /**
+     * Compiles the text of a query.
+     * @param text the text of the query
+     * @return the compiled query
+     * @throws IllegalArgumentException if the query is empty or not written correctly
+     */
+    public static Query compile(String text) {
+        return new Query(text.trim(), QueryParser.parse(text));
+    }
+
+    /**
+     * Returns the tasks in the list that match the query, in the order they are in the list.
+     * @param taskList the list of tasks to be queried
+     * @return the matching tasks
+     */
+    public ArrayList<Task> run(TaskList taskList) {
+        QueryEvent event = new QueryEvent();
+        event.begin();
+        TaskIndex index = taskList.getIndex();
+        RoaringBitmap exact = root.bitmap(index);
+        AccessPath path = exact == null ? root.plan(index) : null;
+        ArrayList<Task> matches = new ArrayList<Task>();
+        int examined;
+        if (exact != null) {
+            lastAccessPath = TAG_BITMAP;
+            examined = 0;
+            matches.addAll(index.tasksOf(exact));
+        } else if (path == null || path.getEstimate() >= taskList.size()) {
+            lastAccessPath = SEQUENTIAL_SCAN;
+            examined = taskList.size();
+            for (Task task : taskList.getAllTasks()) {
+                if (root.matches(task)) {
+                    matches.add(task);
+                }
+            }
+        } else {
+            lastAccessPath = path.getName();
+            examined = 0;
+            Set<Task> seen = Collections.newSetFromMap(new IdentityHashMap<Task, Boolean>());
+            for (Collection<Task> group : path.getGroups()) {
+                for (Task task : group) {
+                    examined++;
+                    if (seen.add(task) && root.matches(task)) {
+                        matches.add(task);
+                    }
+                }
+            }
+            matches.sort(Comparator.comparingLong(index::sequenceOf));
+        }
+        Metrics.recordTasksScanned(examined);
+        event.query = text;
+        event.accessPath = lastAccessPath;
+        event.tasksExamined = examined;
+        event.matches = matches.size();
+        event.commit();
+        return matches;
+    }
+
+    /**
+     * Returns how the tasks were found the last time the query was run.
+     * @return the name of the access path the planner picked
+     */
+    public String getLastAccessPath() {
+        return lastAccessPath;
+    }
+}
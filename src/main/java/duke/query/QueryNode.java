@@ -0,0 +1,368 @@
+package duke.query;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import duke.task.RoaringBitmap;
+import duke.task.Task;
+import duke.task.TaskIndex;
+
+/**
+ * Node of the predicate tree a query is compiled into. Each node can test a single task, and may offer
+ * an {@link AccessPath} through the indexes that finds every task it could match.
+ *
+ * @author Benjamin Lui
+ */
+abstract class QueryNode {
+    // relative cost of testing a task, so that cheaper tests run first and short-circuit the rest
+    static final int CHEAP = 0;
+    static final int MODERATE = 1;
+    static final int EXPENSIVE = 2;
+
+    abstract boolean matches(Task task);
+
+    /**
+     * Returns the cheapest way of finding the tasks this node could match through an index.
+     * @param index the indexes of the list of tasks
+     * @return the access path, or null if every task has to be tested
+     */
+    abstract AccessPath plan(TaskIndex index);
+
+    /**
+     * Returns the IDs of exactly the tasks this node matches, if they can be worked out from the tag index alone.
+     * @param index the indexes of the list of tasks
+     * @return the IDs of the matching tasks, or null if tasks have to be tested one by one
+     */
+    RoaringBitmap bitmap(TaskIndex index) {
+        return null;
+    }
+
+    abstract int cost();
+
+    /**
+     * Returns the access path through the tasks with the IDs in a bitmap.
+     */
+    static AccessPath bitmapPath(TaskIndex index, RoaringBitmap taskIds) {
+        return AccessPath.of("tag index", List.of(index.tasksOf(taskIds)));
+    }
+
+    /**
+     * Matches tasks with a tag.
+     */
+    static class TagNode extends QueryNode {
+        private final String tag;
+
+        TagNode(String tag) {
+            this.tag = tag;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.hasTag(tag);
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            return bitmapPath(index, index.withTag(tag));
+        }
+
+        @Override
+        RoaringBitmap bitmap(TaskIndex index) {
+            return index.withTag(tag);
+        }
+
+        @Override
+        int cost() {
+            return CHEAP;
+        }
+    }
+
+    /**
+     * Matches tasks of one type.
+     */
+    static class TypeNode extends QueryNode {
+        private final Class<? extends Task> type;
+
+        TypeNode(Class<? extends Task> type) {
+            this.type = type;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return task.getClass() == type;
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            return null;
+        }
+
+        @Override
+        int cost() {
+            return CHEAP;
+        }
+    }
+
+    /**
+     * Matches tasks that are done.
+     */
+    static class DoneNode extends QueryNode {
+        @Override
+        boolean matches(Task task) {
+            return task.isDone();
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            return null;
+        }
+
+        @Override
+        int cost() {
+            return CHEAP;
+        }
+    }
+
+    /**
+     * Matches tasks due before, on or after a date.
+     */
+    static class DueNode extends QueryNode {
+        private final String operator;
+        private final LocalDate date;
+
+        DueNode(String operator, LocalDate date) {
+            this.operator = operator;
+            this.date = date;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            LocalDate dueDate = task.getDueDate();
+            if (dueDate == null) {
+                return false;
+            }
+            int comparison = dueDate.compareTo(date);
+            switch (operator) {
+            case "<":
+                return comparison < 0;
+            case "<=":
+                return comparison <= 0;
+            case ">":
+                return comparison > 0;
+            case ">=":
+                return comparison >= 0;
+            default:
+                return comparison == 0;
+            }
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            String name = "due date index (due" + operator + date + ")";
+            switch (operator) {
+            case "<":
+            case "<=":
+                return AccessPath.of(name, index.dueWithin(null, false, date, operator.equals("<=")));
+            case ">":
+            case ">=":
+                return AccessPath.of(name, index.dueWithin(date, operator.equals(">="), null, false));
+            default:
+                return AccessPath.of(name, index.dueWithin(date, true, date, true));
+            }
+        }
+
+        @Override
+        int cost() {
+            return CHEAP;
+        }
+    }
+
+    /**
+     * Matches tasks whose description contains a word, or a phrase of several words.
+     */
+    static class KeywordNode extends QueryNode {
+        private final String phrase;
+        private final List<String> words;
+
+        KeywordNode(String phrase) {
+            this.words = TaskIndex.words(phrase);
+            this.phrase = String.join(" ", words);
+        }
+
+        @Override
+        boolean matches(Task task) {
+            List<String> descriptionWords = TaskIndex.words(task.getDescription());
+            if (words.size() == 1) {
+                return descriptionWords.contains(phrase);
+            }
+            return (" " + String.join(" ", descriptionWords) + " ").contains(" " + phrase + " ");
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            String rarest = words.get(0);
+            for (String word : words) {
+                if (index.withWord(word).size() < index.withWord(rarest).size()) {
+                    rarest = word;
+                }
+            }
+            return AccessPath.of("word index (\"" + rarest + "\")", List.of(index.withWord(rarest)));
+        }
+
+        @Override
+        int cost() {
+            return EXPENSIVE;
+        }
+    }
+
+    /**
+     * Matches tasks that do not match the node it negates.
+     */
+    static class NotNode extends QueryNode {
+        private final QueryNode negated;
+
+        NotNode(QueryNode negated) {
+            this.negated = negated;
+        }
+
+        @Override
+        boolean matches(Task task) {
+            return !negated.matches(task);
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            RoaringBitmap taskIds = bitmap(index);
+            return taskIds == null ? null : bitmapPath(index, taskIds);
+        }
+
+        @Override
+        RoaringBitmap bitmap(TaskIndex index) {
+            RoaringBitmap negatedIds = negated.bitmap(index);
+            return negatedIds == null ? null : RoaringBitmap.andNot(index.allTasks(), negatedIds);
+        }
+
+        @Override
+        int cost() {
+            return negated.cost();
+        }
+    }
+
+    /**
+     * Matches tasks that match every one of its nodes, testing the cheapest nodes first.
+     */
+    static class AndNode extends QueryNode {
+        private final List<QueryNode> operands;
+
+        AndNode(List<QueryNode> operands) {
+            this.operands = new ArrayList<QueryNode>(operands);
+            this.operands.sort(Comparator.comparingInt(QueryNode::cost));
+        }
+
+        @Override
+        boolean matches(Task task) {
+            for (QueryNode operand : operands) {
+                if (!operand.matches(task)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            // the operands answered by the tag index are intersected into a single access path
+            RoaringBitmap tagged = null;
+            AccessPath cheapest = null;
+            for (QueryNode operand : operands) {
+                RoaringBitmap taskIds = operand.bitmap(index);
+                if (taskIds != null) {
+                    tagged = tagged == null ? taskIds : RoaringBitmap.and(tagged, taskIds);
+                    continue;
+                }
+                AccessPath path = operand.plan(index);
+                if (path != null && (cheapest == null || path.getEstimate() < cheapest.getEstimate())) {
+                    cheapest = path;
+                }
+            }
+            if (tagged != null && (cheapest == null || tagged.cardinality() < cheapest.getEstimate())) {
+                return bitmapPath(index, tagged);
+            }
+            return cheapest;
+        }
+
+        @Override
+        RoaringBitmap bitmap(TaskIndex index) {
+            RoaringBitmap result = null;
+            for (QueryNode operand : operands) {
+                RoaringBitmap taskIds = operand.bitmap(index);
+                if (taskIds == null) {
+                    return null;
+                }
+                result = result == null ? taskIds : RoaringBitmap.and(result, taskIds);
+            }
+            return result;
+        }
+
+        @Override
+        int cost() {
+            return operands.get(operands.size() - 1).cost();
+        }
+    }
+
+    /**
+     * Matches tasks that match any of its nodes, testing the cheapest nodes first.
+     */
+    static class OrNode extends QueryNode {
+        private final List<QueryNode> operands;
+
+        OrNode(List<QueryNode> operands) {
+            this.operands = new ArrayList<QueryNode>(operands);
+            this.operands.sort(Comparator.comparingInt(QueryNode::cost));
+        }
+
+        @Override
+        boolean matches(Task task) {
+            for (QueryNode operand : operands) {
+                if (operand.matches(task)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        AccessPath plan(TaskIndex index) {
+            AccessPath union = null;
+            for (QueryNode operand : operands) {
+                AccessPath path = operand.plan(index);
+                if (path == null) {
+                    // one operand needs every task tested, so the others cannot narrow the search
+                    return null;
+                }
+                union = union == null ? path : union.union(path);
+            }
+            return union;
+        }
+
+        @Override
+        RoaringBitmap bitmap(TaskIndex index) {
+            RoaringBitmap result = null;
+            for (QueryNode operand : operands) {
+                RoaringBitmap taskIds = operand.bitmap(index);
+                if (taskIds == null) {
+                    return null;
+                }
+                result = result == null ? taskIds : RoaringBitmap.or(result, taskIds);
+            }
+            return result;
+        }
+
+        @Override
+        int cost() {
+            return operands.get(operands.size() - 1).cost();
+        }
+    }
+}
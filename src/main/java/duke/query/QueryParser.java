@@ -0,0 +1,199 @@
+package duke.query;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import duke.task.DeadLine;
+import duke.task.Event;
+import duke.task.RecurringTask;
+import duke.task.Task;
+import duke.task.TaskIndex;
+import duke.task.Todo;
+
+/**
+ * Compiles the text of a query into a tree of {@link QueryNode}s. The grammar is
+ * <pre>
+ * query := and ("or" and)*
+ * and   := unary ("and"? unary)*
+ * unary := ("!" | "not") unary | "(" query ")" | term
+ * term  := "type:" ("todo" | "deadline" | "event" | "recurring") | "done"
+ *        | "due" ("&lt;" | "&lt;=" | "&gt;" | "&gt;=" | "=") date | "#" tag
+ *        | word | "\"" words "\""
+ * </pre>
+ * where dates are written as yyyy-mm-dd, and terms written next to each other must all match.
+ *
+ * @author Benjamin Lui
+ */
+class QueryParser {
+    private static final String[] DUE_OPERATORS = {"<=", ">=", "<", ">", "="};
+
+    private final List<String> tokens;
+    private int position = 0;
+
+    private QueryParser(List<String> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Compiles the text of a query.
+     * @param query the text of the query
+     * @return the root of the predicate tree
+     * @throws IllegalArgumentException if the query is empty or not written correctly
+     */
+    static QueryNode parse(String query) {
+        QueryParser parser = new QueryParser(tokenize(query));
+        if (parser.tokens.isEmpty()) {
+            throw new IllegalArgumentException("The query cannot be empty.");
+        }
+        QueryNode root = parser.parseOr();
+        if (parser.position < parser.tokens.size()) {
+            throw new IllegalArgumentException("Unexpected '" + parser.tokens.get(parser.position) + "' in the query.");
+        }
+        return root;
+    }
+
+    /**
+     * Splits a query into tokens. Brackets and '!' are tokens of their own, and quoted text is kept
+     * together as one token that starts with a quote.
+     */
+    private static List<String> tokenize(String query) {
+        List<String> tokens = new ArrayList<String>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == '!') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("A quote in the query is not closed.");
+                }
+                tokens.add(query.substring(i, end));
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < query.length() && !Character.isWhitespace(query.charAt(i))
+                        && query.charAt(i) != '(' && query.charAt(i) != ')' && query.charAt(i) != '"') {
+                    i++;
+                }
+                tokens.add(query.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private QueryNode parseOr() {
+        List<QueryNode> operands = new ArrayList<QueryNode>();
+        operands.add(parseAnd());
+        while (isNext("or")) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new QueryNode.OrNode(operands);
+    }
+
+    private QueryNode parseAnd() {
+        List<QueryNode> operands = new ArrayList<QueryNode>();
+        operands.add(parseUnary());
+        while (position < tokens.size() && !isNext("or") && !isNext(")")) {
+            if (isNext("and")) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new QueryNode.AndNode(operands);
+    }
+
+    private QueryNode parseUnary() {
+        if (position >= tokens.size()) {
+            throw new IllegalArgumentException("The query ends too early.");
+        }
+        String token = tokens.get(position++);
+        if (token.equals("!") || token.equalsIgnoreCase("not")) {
+            return new QueryNode.NotNode(parseUnary());
+        }
+        if (token.equals("(")) {
+            QueryNode inner = parseOr();
+            if (!isNext(")")) {
+                throw new IllegalArgumentException("A bracket in the query is not closed.");
+            }
+            position++;
+            return inner;
+        }
+        return parseTerm(token);
+    }
+
+    private QueryNode parseTerm(String token) {
+        if (token.startsWith("\"")) {
+            return keyword(token.substring(1));
+        }
+        String lowerCase = token.toLowerCase(Locale.ROOT);
+        if (token.startsWith("#")) {
+            return tag(token);
+        }
+        if (lowerCase.equals("done")) {
+            return new QueryNode.DoneNode();
+        }
+        if (lowerCase.startsWith("type:")) {
+            return type(lowerCase.substring("type:".length()));
+        }
+        if (lowerCase.startsWith("due")) {
+            for (String operator : DUE_OPERATORS) {
+                if (lowerCase.startsWith(operator, "due".length())) {
+                    return new QueryNode.DueNode(operator, date(token.substring("due".length() + operator.length())));
+                }
+            }
+        }
+        return keyword(token);
+    }
+
+    private static QueryNode type(String name) {
+        switch (name) {
+        case "todo":
+            return new QueryNode.TypeNode(Todo.class);
+        case "deadline":
+            return new QueryNode.TypeNode(DeadLine.class);
+        case "event":
+            return new QueryNode.TypeNode(Event.class);
+        case "recurring":
+            return new QueryNode.TypeNode(RecurringTask.class);
+        default:
+            throw new IllegalArgumentException("'" + name
+                    + "' is not a type of task, try todo, deadline, event or recurring.");
+        }
+    }
+
+    private static QueryNode tag(String token) {
+        List<String> tags = Task.tagsOf(token);
+        if (tags.size() != 1 || tags.get(0).length() != token.length() - 1) {
+            throw new IllegalArgumentException("'" + token
+                    + "' is not a tag, tags are made of letters, digits, - and _.");
+        }
+        return new QueryNode.TagNode(tags.get(0));
+    }
+
+    private static LocalDate date(String text) {
+        try {
+            return LocalDate.parse(text);
+        } catch (DateTimeParseException dtpe) {
+            throw new IllegalArgumentException("'" + text + "' is not a date in the format yyyy-mm-dd.");
+        }
+    }
+
+    private static QueryNode keyword(String phrase) {
+        if (TaskIndex.words(phrase).isEmpty()) {
+            throw new IllegalArgumentException("'" + phrase + "' has no words to search for.");
+        }
+        return new QueryNode.KeywordNode(phrase);
+    }
+
+    private boolean isNext(String token) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(token);
+    }
+}
@@ -0,0 +1,156 @@
+package duke.reminder;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.TaskListListener;
+
+/**
+ * Reminds the user of tasks when the day they are due on starts. Every task with a due date that is not done
+ * is held in a {@link TimingWheel}, and the scheduler listens to the list of tasks so that tasks marked
+ * as done or removed are cancelled straight away, without going through the list again.
+ *
+ * @author Benjamin Lui
+ */
+public class ReminderScheduler implements TaskListListener, Closeable {
+    private static final long TICK_MILLIS = 1000;
+
+    private final Clock clock;
+    private final Consumer<List<Task>> onDue;
+    private final TimingWheel<Task> wheel;
+    private final Map<Task, TimingWheel.Timeout<Task>> reminders =
+            new IdentityHashMap<Task, TimingWheel.Timeout<Task>>();
+    private ScheduledExecutorService ticker;
+    private TaskList watched;
+
+    /**
+     * Constructor for the scheduler. Nothing is reminded until {@link #start()} is called.
+     * @param clock the clock that decides when tasks are due, and in which time zone
+     * @param onDue receives the tasks that became due together, on the scheduler's thread
+     */
+    public ReminderScheduler(Clock clock, Consumer<List<Task>> onDue) {
+        this.clock = clock;
+        this.onDue = onDue;
+        this.wheel = new TimingWheel<Task>(TICK_MILLIS, clock.millis());
+    }
+
+    /**
+     * Starts checking for due tasks every second on a background thread.
+     */
+    public synchronized void start() {
+        if (ticker != null) {
+            return;
+        }
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "duke-reminders");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::remindDueTasks, 0, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Replaces the tasks being reminded of with the tasks in the list, and follows the changes made to it.
+     * Used whenever the tasks are loaded.
+     * @param taskList the list of tasks to remind the user of
+     */
+    public synchronized void watch(TaskList taskList) {
+        if (watched != null) {
+            watched.removeListener(this);
+        }
+        tasksCleared();
+        for (Task task : taskList.getAllTasks()) {
+            taskAdded(task);
+        }
+        watched = taskList;
+        taskList.addListener(this);
+    }
+
+    /**
+     * Hands the tasks that have become due to the consumer, skipping any that are done by now.
+     */
+    void remindDueTasks() {
+        List<Task> due = new ArrayList<Task>();
+        synchronized (this) {
+            wheel.advanceTo(clock.millis(), task -> {
+                reminders.remove(task);
+                if (!task.isDone()) {
+                    due.add(task);
+                }
+            });
+        }
+        if (!due.isEmpty()) {
+            onDue.accept(due);
+        }
+    }
+
+    /**
+     * Returns the number of tasks waiting to be reminded of.
+     * @return the number of reminders that have not gone off
+     */
+    public synchronized int size() {
+        return wheel.size();
+    }
+
+    @Override
+    public synchronized void taskAdded(Task task) {
+        LocalDate dueDate = task.getDueDate();
+        if (dueDate == null || task.isDone() || reminders.containsKey(task)) {
+            return;
+        }
+        long dueMillis = dueDate.atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        reminders.put(task, wheel.schedule(task, dueMillis));
+    }
+
+    @Override
+    public synchronized void taskDone(Task task) {
+        taskRemoved(task);
+    }
+
+    @Override
+    public synchronized void taskReopened(Task task) {
+        taskAdded(task);
+    }
+
+    @Override
+    public synchronized void taskRescheduled(Task task, LocalDate previousDueDate) {
+        taskRemoved(task);
+        taskAdded(task);
+    }
+
+    @Override
+    public synchronized void taskRemoved(Task task) {
+        TimingWheel.Timeout<Task> reminder = reminders.remove(task);
+        if (reminder != null) {
+            reminder.cancel();
+        }
+    }
+
+    @Override
+    public synchronized void tasksCleared() {
+        wheel.clear();
+        reminders.clear();
+    }
+
+    /**
+     * Stops checking for due tasks.
+     */
+    @Override
+    public synchronized void close() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+}
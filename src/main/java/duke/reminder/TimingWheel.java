@@ -0,0 +1,221 @@
+package duke.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel that holds items until a point in time, in the style of the timer wheels
+ * used by operating system kernels. Time is split into ticks, and each level of the wheel has 64 slots
+ * covering 64 times the span of a slot of the level below. Scheduling and cancelling are O(1);
+ * an item only moves down a level when the slot it is in comes round, so advancing the wheel costs
+ * O(1) per tick plus O(1) for each item that moves or expires.
+ * Items further away than the top level can hold are parked in it and rescheduled when they come round.
+ * The wheel is not thread-safe.
+ *
+ * @param <T> the type of the items held
+ * @author Benjamin Lui
+ */
+public class TimingWheel<T> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_DELAY_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final long tickMillis;
+    private final Timeout<T>[][] slots;
+    // the next tick to be processed, every item due before it has already expired
+    private long currentTick;
+    private int size = 0;
+
+    /**
+     * Constructor for the timing wheel.
+     * @param tickMillis the length of a tick, which items are rounded up to
+     * @param startMillis the time the wheel starts at, in milliseconds since the epoch
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long tickMillis, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = (Timeout<T>[][]) new Timeout<?>[LEVELS][SLOTS];
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Holds an item until the given time. Items that are already due expire on the next advance.
+     * @param item the item to be held
+     * @param dueMillis when the item is due, in milliseconds since the epoch
+     * @return the handle for cancelling the item
+     */
+    public Timeout<T> schedule(T item, long dueMillis) {
+        Timeout<T> timeout = new Timeout<T>(this, item, Math.max(ceilDiv(dueMillis, tickMillis), currentTick));
+        insert(timeout);
+        size++;
+        return timeout;
+    }
+
+    /**
+     * Advances the wheel to the given time, handing every item that has become due to the consumer
+     * in the order of the ticks they were due in.
+     * @param nowMillis the current time, in milliseconds since the epoch
+     * @param onExpired receives each item that has become due
+     */
+    public void advanceTo(long nowMillis, Consumer<T> onExpired) {
+        long targetTick = nowMillis / tickMillis;
+        if (size == 0) {
+            currentTick = Math.max(currentTick, targetTick + 1);
+            return;
+        }
+        while (currentTick <= targetTick) {
+            long tick = currentTick;
+            for (int level = 1; level < LEVELS && (tick & ((1L << (SLOT_BITS * level)) - 1)) == 0; level++) {
+                cascade(level, slotIndex(tick, level));
+            }
+            Timeout<T> timeout = detachSlot(0, slotIndex(tick, 0));
+            while (timeout != null) {
+                Timeout<T> next = timeout.next;
+                timeout.next = null;
+                // skips items cancelled while an earlier item was being handed out
+                if (!timeout.isExpired && timeout.dueTick > tick) {
+                    // parked past the top level, not actually due yet
+                    insert(timeout);
+                } else if (!timeout.isExpired) {
+                    size--;
+                    timeout.isExpired = true;
+                    onExpired.accept(timeout.item);
+                }
+                timeout = next;
+            }
+            currentTick = tick + 1;
+        }
+    }
+
+    /**
+     * Returns the number of items still held.
+     * @return the number of items scheduled and neither cancelled nor expired
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Cancels every item held.
+     */
+    public void clear() {
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timeout<T> timeout = detachSlot(level, slot);
+                while (timeout != null) {
+                    Timeout<T> next = timeout.next;
+                    timeout.next = null;
+                    timeout.isExpired = true;
+                    timeout = next;
+                }
+            }
+        }
+        size = 0;
+    }
+
+    private void cascade(int level, int slot) {
+        Timeout<T> timeout = detachSlot(level, slot);
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            timeout.next = null;
+            insert(timeout);
+            timeout = next;
+        }
+    }
+
+    private void insert(Timeout<T> timeout) {
+        long delay = Math.min(timeout.dueTick - currentTick, MAX_DELAY_TICKS);
+        long tick = currentTick + delay;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        int slot = slotIndex(tick, level);
+        Timeout<T> head = slots[level][slot];
+        timeout.level = level;
+        timeout.slot = slot;
+        timeout.previous = null;
+        timeout.next = head;
+        if (head != null) {
+            head.previous = timeout;
+        }
+        slots[level][slot] = timeout;
+    }
+
+    private Timeout<T> detachSlot(int level, int slot) {
+        Timeout<T> head = slots[level][slot];
+        slots[level][slot] = null;
+        for (Timeout<T> timeout = head; timeout != null; timeout = timeout.next) {
+            timeout.level = -1;
+            timeout.previous = null;
+        }
+        return head;
+    }
+
+    private boolean remove(Timeout<T> timeout) {
+        if (timeout.isExpired) {
+            return false;
+        }
+        timeout.isExpired = true;
+        size--;
+        if (timeout.level < 0) {
+            // taken out of its slot by an advance that is still going through it, which skips it
+            return true;
+        }
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            slots[timeout.level][timeout.slot] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        return true;
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    /**
+     * Handle for an item held in a {@link TimingWheel}.
+     *
+     * @param <T> the type of the item held
+     * @author Benjamin Lui
+     */
+    public static class Timeout<T> {
+        private final TimingWheel<T> wheel;
+        private final T item;
+        private final long dueTick;
+        private Timeout<T> previous;
+        private Timeout<T> next;
+        private int level;
+        private int slot;
+        private boolean isExpired = false;
+
+        private Timeout(TimingWheel<T> wheel, T item, long dueTick) {
+            this.wheel = wheel;
+            this.item = item;
+            this.dueTick = dueTick;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        /**
+         * Removes the item from the wheel so that it never expires.
+         * @return false if the item had already expired or been cancelled
+         */
+        public boolean cancel() {
+            return wheel.remove(this);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package duke.server;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * State of a single client connected to the server: the bytes of the line being read,
+ * the commands waiting to be executed and the replies waiting to be written.
+ *
+ * @author Benjamin Lui
+ */
+class ClientConnection {
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final ByteArrayOutputStream partialLine = new ByteArrayOutputStream();
+    private final Queue<String> pendingCommands = new ArrayDeque<String>();
+    private final Queue<ByteBuffer> pendingReplies = new ConcurrentLinkedQueue<ByteBuffer>();
+    private final AtomicInteger pendingReplyBytes = new AtomicInteger();
+    private boolean isExecuting = false;
+    private volatile boolean isClosing = false;
+    private String user;
+
+    ClientConnection(SocketChannel channel, SelectionKey key) {
+        this.channel = channel;
+        this.key = key;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    SelectionKey getKey() {
+        return key;
+    }
+
+    String getUser() {
+        return user;
+    }
+
+    void setUser(String user) {
+        this.user = user;
+    }
+
+    /**
+     * Adds the bytes that were read to the current line.
+     * @param buffer the bytes read from the client, ready to be drained
+     * @param maxLineLength the longest line the client is allowed to send
+     * @return false if the client sent a line longer than allowed
+     */
+    boolean readLines(ByteBuffer buffer, int maxLineLength) {
+        while (buffer.hasRemaining()) {
+            byte b = buffer.get();
+            if (b == '\n') {
+                String line = new String(partialLine.toByteArray(), StandardCharsets.UTF_8).trim();
+                partialLine.reset();
+                addCommand(line);
+            } else if (partialLine.size() >= maxLineLength) {
+                return false;
+            } else {
+                partialLine.write(b);
+            }
+        }
+        return true;
+    }
+
+    private synchronized void addCommand(String line) {
+        pendingCommands.add(line);
+    }
+
+    /**
+     * Marks the connection as executing if it has commands and is not already doing so.
+     * @return true if the caller should start executing the pending commands
+     */
+    synchronized boolean startExecuting() {
+        if (isExecuting || pendingCommands.isEmpty()) {
+            return false;
+        }
+        isExecuting = true;
+        return true;
+    }
+
+    /**
+     * Takes the next command to be executed, or marks the connection as idle when there is none.
+     * @return the next command, or null if there are no more commands
+     */
+    synchronized String nextCommand() {
+        String command = pendingCommands.poll();
+        if (command == null) {
+            isExecuting = false;
+        }
+        return command;
+    }
+
+    void addReply(String reply) {
+        byte[] bytes = (reply + "\n\n").getBytes(StandardCharsets.UTF_8);
+        pendingReplies.add(ByteBuffer.wrap(bytes));
+        pendingReplyBytes.addAndGet(bytes.length);
+    }
+
+    Queue<ByteBuffer> getPendingReplies() {
+        return pendingReplies;
+    }
+
+    void repliesWritten(int bytes) {
+        pendingReplyBytes.addAndGet(-bytes);
+    }
+
+    int getPendingReplyBytes() {
+        return pendingReplyBytes.get();
+    }
+
+    boolean isClosing() {
+        return isClosing;
+    }
+
+    void closeAfterReplies() {
+        isClosing = true;
+    }
+}
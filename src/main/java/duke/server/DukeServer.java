@@ -0,0 +1,257 @@
+package duke.server;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import duke.command.CommandDispatcher;
+import duke.metrics.Metrics;
+import duke.ui.Ui;
+
+/**
+ * Headless duke.Duke server that accepts line based commands over TCP.
+ * The first line a client sends is its user name, and every line after that is a command
+ * which is executed against that user's own list of tasks. Each reply is followed by an empty line.
+ * A single selector thread handles all the connections, while the commands are executed on a
+ * small pool of worker threads, one command at a time per connection.
+ *
+ * @author Benjamin Lui
+ */
+public class DukeServer {
+    private static final int DEFAULT_PORT = 8585;
+    private static final int DEFAULT_MAX_OPEN_USERS = 10000;
+    private static final long DEFAULT_MAX_OPEN_TASKS = 5_000_000L;
+    private static final String DEFAULT_DATA_DIRECTORY = "data/users";
+    private static final int READ_BUFFER_SIZE = 4096;
+    private static final int MAX_LINE_LENGTH = 8192;
+    // stop reading from a client once this many bytes of replies are waiting to be sent to it
+    private static final int MAX_PENDING_REPLY_BYTES = 64 * 1024;
+    private static final String LOAD_ERROR = "OOPS!!! I couldn't read your saved tasks, please try again later.\n";
+
+    private final InetSocketAddress address;
+    private final Path dataDirectory;
+    private final ExecutorService workers;
+    private final UserTasksRegistry users;
+    private final Queue<ClientConnection> connectionsWithReplies = new ConcurrentLinkedQueue<ClientConnection>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private final Ui ui = new Ui();
+    private final CommandDispatcher dispatcher = new CommandDispatcher();
+    private Selector selector;
+
+    /**
+     * Constructor for the server.
+     * @param address the address to listen on
+     * @param dataDirectory the directory where each user's tasks are saved
+     * @param workerThreads the number of threads used to execute commands
+     * @param users the registry that holds the tasks of the users in memory
+     */
+    public DukeServer(InetSocketAddress address, Path dataDirectory, int workerThreads, UserTasksRegistry users) {
+        this.address = address;
+        this.dataDirectory = dataDirectory;
+        this.workers = Executors.newFixedThreadPool(workerThreads);
+        this.users = users;
+    }
+
+    /**
+     * Starts a server on localhost.
+     * @param args optionally the port to listen on, followed by the directory for the users' tasks
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        Path dataDirectory = Paths.get(args.length > 1 ? args[1] : DEFAULT_DATA_DIRECTORY);
+        int workerThreads = Runtime.getRuntime().availableProcessors();
+        Metrics.startDumpingIfConfigured();
+        UserTasksRegistry users = new UserTasksRegistry(dataDirectory, DEFAULT_MAX_OPEN_USERS, DEFAULT_MAX_OPEN_TASKS);
+        new DukeServer(new InetSocketAddress("localhost", port), dataDirectory, workerThreads, users).run();
+    }
+
+    /**
+     * Accepts and serves clients until the thread is interrupted.
+     */
+    public void run() throws IOException {
+        Files.createDirectories(dataDirectory);
+        try (Selector selector = Selector.open(); ServerSocketChannel server = ServerSocketChannel.open()) {
+            this.selector = selector;
+            server.bind(address);
+            server.configureBlocking(false);
+            server.register(selector, SelectionKey.OP_ACCEPT);
+            System.out.println("Duke server listening on " + address);
+            while (!Thread.currentThread().isInterrupted()) {
+                selector.select();
+                enableWrites();
+                Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+                while (selectedKeys.hasNext()) {
+                    SelectionKey key = selectedKeys.next();
+                    selectedKeys.remove();
+                    handle(key);
+                }
+            }
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private void handle(SelectionKey key) {
+        try {
+            if (key.isAcceptable()) {
+                accept((ServerSocketChannel) key.channel());
+                return;
+            }
+            ClientConnection connection = (ClientConnection) key.attachment();
+            if (key.isReadable()) {
+                read(connection);
+            }
+            if (key.isValid() && key.isWritable()) {
+                write(connection);
+            }
+        } catch (IOException | RuntimeException e) {
+            close(key);
+        }
+    }
+
+    private void accept(ServerSocketChannel server) throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        ClientConnection connection = new ClientConnection(channel, key);
+        key.attach(connection);
+        connection.addReply("Hello! I'm Duke\nWho are you?");
+        write(connection);
+    }
+
+    private void read(ClientConnection connection) throws IOException {
+        readBuffer.clear();
+        int bytesRead = connection.getChannel().read(readBuffer);
+        if (bytesRead < 0) {
+            close(connection.getKey());
+            return;
+        }
+        readBuffer.flip();
+        if (!connection.readLines(readBuffer, MAX_LINE_LENGTH)) {
+            close(connection.getKey());
+            return;
+        }
+        if (connection.startExecuting()) {
+            workers.execute(() -> executeCommands(connection));
+        }
+        if (connection.getPendingReplyBytes() > MAX_PENDING_REPLY_BYTES) {
+            // the client is not reading its replies, so stop reading its commands until it catches up
+            connection.getKey().interestOps(connection.getKey().interestOps() & ~SelectionKey.OP_READ);
+        }
+    }
+
+    private void write(ClientConnection connection) throws IOException {
+        Queue<ByteBuffer> replies = connection.getPendingReplies();
+        ByteBuffer reply = replies.peek();
+        while (reply != null) {
+            int bytesWritten = connection.getChannel().write(reply);
+            connection.repliesWritten(bytesWritten);
+            if (reply.hasRemaining()) {
+                break;
+            }
+            replies.poll();
+            reply = replies.peek();
+        }
+        SelectionKey key = connection.getKey();
+        if (reply != null) {
+            key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            return;
+        }
+        if (connection.isClosing()) {
+            close(key);
+            return;
+        }
+        int interestOps = key.interestOps() & ~SelectionKey.OP_WRITE;
+        if (connection.getPendingReplyBytes() <= MAX_PENDING_REPLY_BYTES) {
+            interestOps |= SelectionKey.OP_READ;
+        }
+        key.interestOps(interestOps);
+    }
+
+    /**
+     * Registers interest in writing for the connections whose commands produced replies.
+     * Only the selector thread may change the interest set, so workers hand the connections over here.
+     */
+    private void enableWrites() {
+        ClientConnection connection = connectionsWithReplies.poll();
+        while (connection != null) {
+            SelectionKey key = connection.getKey();
+            if (key.isValid()) {
+                key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+            }
+            connection = connectionsWithReplies.poll();
+        }
+    }
+
+    private void close(SelectionKey key) {
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException ioe) {
+            return;
+        }
+    }
+
+    /**
+     * Executes the pending commands of a connection in the order they were received.
+     * Runs on a worker thread.
+     * @param connection the connection whose commands are to be executed
+     */
+    private void executeCommands(ClientConnection connection) {
+        String line = connection.nextCommand();
+        while (line != null) {
+            if (!connection.isClosing()) {
+                boolean isBye = connection.getUser() != null && line.equals("bye");
+                connection.addReply(respond(connection, line));
+                if (isBye) {
+                    connection.closeAfterReplies();
+                }
+                connectionsWithReplies.add(connection);
+                selector.wakeup();
+            }
+            line = connection.nextCommand();
+        }
+    }
+
+    private String respond(ClientConnection connection, String line) {
+        if (connection.getUser() == null) {
+            return logIn(connection, line);
+        }
+        try {
+            return users.withUser(connection.getUser(), userTasks ->
+                    dispatcher.dispatch(line, userTasks.getTasks(), ui, userTasks.getStorage()));
+        } catch (IOException e) {
+            return ui.showError(LOAD_ERROR);
+        } catch (RuntimeException e) {
+            return ui.showError("OOPS!!! I'm sorry, but I don't know what that means :-(\n");
+        }
+    }
+
+    private String logIn(ClientConnection connection, String user) {
+        if (!user.matches("[A-Za-z0-9_-]{1,64}")) {
+            return ui.showError("User names can only contain letters, digits, '_' and '-'. Who are you?");
+        }
+        try {
+            String welcome = users.withUser(user, userTasks -> ui.showWelcome(userTasks.getTasks()));
+            connection.setUser(user);
+            return welcome;
+        } catch (IOException e) {
+            return ui.showError(LOAD_ERROR);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package duke.server;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import duke.storage.FileStorage;
+import duke.storage.Storage;
+import duke.task.TaskList;
+
+/**
+ * The list of tasks and the storage file that belong to one user of the server.
+ * Commands for the same user are executed one at a time by locking on this object.
+ *
+ * @author Benjamin Lui
+ */
+public class UserTasks {
+    private final Storage storage;
+    private final AtomicInteger leases = new AtomicInteger();
+    private TaskList tasks;
+    private volatile long lastUsed;
+    private int accountedSize = 0;
+
+    /**
+     * Constructor for a user's tasks. The tasks are not read here, so that the registry can create the entry
+     * cheaply; call {@link #ensureLoaded()} while holding the lock before using them.
+     * @param file the file where the user's tasks are saved
+     */
+    public UserTasks(Path file) {
+        this.storage = new FileStorage(file.toString());
+    }
+
+    /**
+     * Loads the tasks from the user's file the first time they are needed. Must be called while holding the lock.
+     * A user without a file starts with no tasks. Any other failure is thrown and the load is tried again on
+     * the next call, so that an empty list is never saved over tasks that could not be read.
+     */
+    void ensureLoaded() throws IOException {
+        if (tasks != null) {
+            return;
+        }
+        try {
+            tasks = storage.load();
+        } catch (NoSuchFileException e) {
+            tasks = new TaskList();
+        }
+    }
+
+    /**
+     * Saves the tasks, if they were loaded, in case the last command failed to save them.
+     * Must be called while holding the lock.
+     */
+    void save() throws IOException {
+        if (tasks != null) {
+            storage.save(tasks);
+        }
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public TaskList getTasks() {
+        return tasks;
+    }
+
+    void lease() {
+        leases.incrementAndGet();
+    }
+
+    void release(long time) {
+        lastUsed = time;
+        leases.decrementAndGet();
+    }
+
+    boolean isLeased() {
+        return leases.get() > 0;
+    }
+
+    long getLastUsed() {
+        return lastUsed;
+    }
+
+    /**
+     * Returns how much the number of tasks changed since the last call. Must be called while holding the lock.
+     * @return the change in the number of tasks
+     */
+    int takeSizeChange() {
+        int size = tasks.size();
+        int change = size - accountedSize;
+        accountedSize = size;
+        return change;
+    }
+
+    int getAccountedSize() {
+        return accountedSize;
+    }
+}
@@ -0,0 +1,137 @@
+package duke.server;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Keeps the tasks of the users that are in use in memory, each user with their own file.
+ * A user's tasks are loaded the first time they are needed. Once too many users are open, or their
+ * tasks add up to more than the memory budget, the least recently used users are dropped from memory.
+ * A user's tasks are saved again before they are dropped, so changes that a command failed to save are not lost.
+ * There is no global lock: different users are only ever contended on their own map entry.
+ *
+ * @author Benjamin Lui
+ */
+public class UserTasksRegistry {
+    // evict a little more than needed so that eviction does not run on every command at the limit
+    private static final double EVICTION_TARGET = 0.9;
+    // -Dduke.compressed=true keeps each user's tasks in a compressed file instead
+    private static final String FILE_EXTENSION = Boolean.getBoolean("duke.compressed") ? ".dkz" : ".txt";
+
+    private final Path dataDirectory;
+    private final int maxOpenUsers;
+    private final long maxOpenTasks;
+    private final ConcurrentHashMap<String, UserTasks> openUsers = new ConcurrentHashMap<String, UserTasks>();
+    private final AtomicLong openTasks = new AtomicLong();
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * Constructor for the registry.
+     * @param dataDirectory the directory where each user's tasks are saved
+     * @param maxOpenUsers the most users whose tasks are kept in memory
+     * @param maxOpenTasks the most tasks, across all users, that are kept in memory
+     */
+    public UserTasksRegistry(Path dataDirectory, int maxOpenUsers, long maxOpenTasks) {
+        this.dataDirectory = dataDirectory;
+        this.maxOpenUsers = maxOpenUsers;
+        this.maxOpenTasks = maxOpenTasks;
+    }
+
+    /**
+     * Runs an action on a user's tasks while holding that user's lock, loading the tasks if needed.
+     * Only the entry is created inside the map, and the file is read under the user's own lock, so loading
+     * one user never holds up the others.
+     * @param user the name of the user
+     * @param action the action to run
+     * @return the result of the action
+     * @throws IOException if the user's tasks have not been loaded yet and cannot be read
+     */
+    public <T> T withUser(String user, Function<UserTasks, T> action) throws IOException {
+        UserTasks userTasks = openUsers.compute(user, (name, existing) -> {
+            UserTasks leased = existing != null
+                    ? existing
+                    : new UserTasks(dataDirectory.resolve(name + FILE_EXTENSION));
+            leased.lease();
+            return leased;
+        });
+        try {
+            synchronized (userTasks) {
+                userTasks.ensureLoaded();
+                T result = action.apply(userTasks);
+                openTasks.addAndGet(userTasks.takeSizeChange());
+                return result;
+            }
+        } finally {
+            userTasks.release(clock.incrementAndGet());
+            evictIfNeeded();
+        }
+    }
+
+    public int getOpenUsers() {
+        return openUsers.size();
+    }
+
+    public long getOpenTasks() {
+        return openTasks.get();
+    }
+
+    private boolean isOverBudget(double fraction) {
+        return openUsers.size() > maxOpenUsers * fraction || openTasks.get() > maxOpenTasks * fraction;
+    }
+
+    /**
+     * Drops the least recently used users that are not in use until the registry is back under its limits.
+     * Each user is saved under their own lock first, and is kept if the save fails.
+     * Only one thread evicts at a time, and the others carry on without waiting for it.
+     */
+    private void evictIfNeeded() {
+        if (!isOverBudget(1.0) || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Map.Entry<String, UserTasks>> candidates = new ArrayList<Map.Entry<String, UserTasks>>();
+            for (Map.Entry<String, UserTasks> entry : openUsers.entrySet()) {
+                candidates.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+            candidates.sort(Comparator.comparingLong(entry -> entry.getValue().getLastUsed()));
+            for (Map.Entry<String, UserTasks> candidate : candidates) {
+                if (!isOverBudget(EVICTION_TARGET)) {
+                    break;
+                }
+                evict(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void evict(String user, UserTasks userTasks) {
+        synchronized (userTasks) {
+            if (userTasks.isLeased()) {
+                return;
+            }
+            try {
+                userTasks.save();
+            } catch (IOException e) {
+                return;
+            }
+            // a command that leased the user while it was being saved keeps it open
+            openUsers.computeIfPresent(user, (name, current) -> {
+                if (current != userTasks || current.isLeased()) {
+                    return current;
+                }
+                openTasks.addAndGet(-current.getAccountedSize());
+                return null;
+            });
+        }
+    }
+}
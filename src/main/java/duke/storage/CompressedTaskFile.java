@@ -0,0 +1,238 @@
+package duke.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.zip.Adler32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Reads and writes task files compressed in independent blocks.
+ * A file starts with a magic number, followed by blocks that each hold whole lines of tasks:
+ * the length of the lines, the length of the compressed bytes, then the lines compressed with Deflater
+ * using a preset dictionary of the text that every task line shares. As no block depends on another,
+ * the blocks are decompressed in parallel, a single block can be read on its own, and new blocks can be
+ * appended to the end of a file.
+ *
+ * @author Benjamin Lui
+ */
+class CompressedTaskFile {
+    static final String EXTENSION = ".dkz";
+    private static final byte[] MAGIC = {'D', 'K', 'Z', '1'};
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    // lines are grouped into blocks of about this many bytes before compression
+    private static final int BLOCK_SIZE = 64 * 1024;
+    // longer lines are not written, so that a block read back never needs more than BLOCK_SIZE plus one line
+    private static final int MAX_LINE_LENGTH = 1024 * 1024;
+    private static final int MAX_BLOCK_LENGTH = BLOCK_SIZE + MAX_LINE_LENGTH;
+    // Deflater adds at most a few bytes for every 16 KB it cannot compress
+    private static final int MAX_COMPRESSED_LENGTH = MAX_BLOCK_LENGTH + MAX_BLOCK_LENGTH / 1024 + 64;
+    private static final byte[] DICTIONARY = ("(at:Mon Tue Wed Thu Fri Sat Sun 2-4pm) (by: Jan Feb Mar Apr May Jun "
+            + "Jul Aug Sep Oct Nov Dec 2020 2021 2022 2023 2024 2025 2026 2027)"
+            + " (every week from:  (every month from: , 1 done)"
+            + "\n[R][ ] \n[R][X] \n[E][ ] \n[E][X] \n[D][ ] \n[D][X] \n[T][ ] \n[T][X] ")
+            .getBytes(StandardCharsets.UTF_8);
+    // the dictionary used before recurring tasks were added, still needed to read the blocks written with it
+    private static final byte[] FIRST_DICTIONARY = ("(at:Mon Tue Wed Thu Fri Sat Sun 2-4pm) (by: Jan Feb Mar Apr May "
+            + "Jun Jul Aug Sep Oct Nov Dec 2020 2021 2022 2023 2024 2025 2026 2027)"
+            + "\n[E][ ] \n[E][X] \n[D][ ] \n[D][X] \n[T][ ] \n[T][X] ").getBytes(StandardCharsets.UTF_8);
+    private static final long FIRST_DICTIONARY_ID = adler32(FIRST_DICTIONARY);
+
+    private final List<String> lines;
+    private final int corruptBlocks;
+
+    private CompressedTaskFile(List<String> lines, int corruptBlocks) {
+        this.lines = lines;
+        this.corruptBlocks = corruptBlocks;
+    }
+
+    List<String> getLines() {
+        return lines;
+    }
+
+    int getCorruptBlocks() {
+        return corruptBlocks;
+    }
+
+    /**
+     * Reads every line of a compressed file, decompressing its blocks in parallel.
+     * A torn block at the end of the file, a block whose header holds a length no block can have,
+     * or a block that fails to decompress, is skipped and counted.
+     * @param file the file to be read
+     * @return the lines and the number of blocks skipped
+     */
+    static CompressedTaskFile read(Path file) throws IOException {
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length < MAGIC.length || !Arrays.equals(Arrays.copyOf(bytes, MAGIC.length), MAGIC)) {
+            throw new IOException(file + " is not a compressed task file");
+        }
+        List<int[]> blocks = new ArrayList<int[]>();
+        int offset = MAGIC.length;
+        int skippedBlocks = 0;
+        while (offset < bytes.length) {
+            if (bytes.length - offset < HEADER_SIZE) {
+                skippedBlocks++;
+                break;
+            }
+            ByteBuffer header = ByteBuffer.wrap(bytes, offset, HEADER_SIZE);
+            int uncompressedLength = header.getInt();
+            int compressedLength = header.getInt();
+            int start = offset + HEADER_SIZE;
+            if (!isValidCompressedLength(compressedLength) || bytes.length - start < compressedLength) {
+                // the end of the block is unknown, so none of the blocks after it can be found
+                skippedBlocks++;
+                break;
+            }
+            if (uncompressedLength < 0 || uncompressedLength > MAX_BLOCK_LENGTH) {
+                skippedBlocks++;
+            } else {
+                blocks.add(new int[] {start, compressedLength, uncompressedLength});
+            }
+            offset = start + compressedLength;
+        }
+        List<String> decompressed = IntStream.range(0, blocks.size())
+                .parallel()
+                .mapToObj(i -> inflate(bytes, blocks.get(i)))
+                .collect(Collectors.toList());
+        List<String> lines = new ArrayList<String>();
+        int corruptBlocks = skippedBlocks;
+        for (String block : decompressed) {
+            if (block == null) {
+                corruptBlocks++;
+            } else {
+                lines.addAll(block.lines().collect(Collectors.toList()));
+            }
+        }
+        return new CompressedTaskFile(lines, corruptBlocks);
+    }
+
+    private static boolean isValidCompressedLength(int compressedLength) {
+        return compressedLength >= 0 && compressedLength <= MAX_COMPRESSED_LENGTH;
+    }
+
+    private static String inflate(byte[] bytes, int[] block) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, block[0], block[1]);
+            byte[] output = new byte[block[2]];
+            int length = inflater.inflate(output);
+            if (length == 0 && inflater.needsDictionary()) {
+                // the block names the dictionary it was compressed with by its checksum
+                inflater.setDictionary(inflater.getAdler() == FIRST_DICTIONARY_ID ? FIRST_DICTIONARY : DICTIONARY);
+                length = inflater.inflate(output);
+            }
+            return length == block[2] ? new String(output, StandardCharsets.UTF_8) : null;
+        } catch (DataFormatException | IllegalArgumentException e) {
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static long adler32(byte[] bytes) {
+        Adler32 adler = new Adler32();
+        adler.update(bytes);
+        return adler.getValue();
+    }
+
+    /**
+     * Writes the magic number that starts every compressed file.
+     * @param channel the channel of the new file
+     */
+    static void writeMagic(FileChannel channel) throws IOException {
+        channel.write(ByteBuffer.wrap(MAGIC));
+    }
+
+    /**
+     * Compresses the lines into blocks and writes them at the current position of the channel.
+     * @param channel the channel to be written to
+     * @param lines the lines to be written, each ending with a line separator
+     * @throws IOException if a line is too long to be read back
+     */
+    static void writeBlocks(FileChannel channel, ByteBuffer[] lines) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            ByteArrayOutputStream block = new ByteArrayOutputStream(BLOCK_SIZE);
+            for (ByteBuffer line : lines) {
+                if (line.remaining() > MAX_LINE_LENGTH) {
+                    throw new IOException("A task is too long to be saved in a compressed task file");
+                }
+                ByteBuffer remaining = line.duplicate();
+                byte[] lineBytes = new byte[remaining.remaining()];
+                remaining.get(lineBytes);
+                block.write(lineBytes);
+                if (block.size() >= BLOCK_SIZE) {
+                    writeBlock(channel, deflater, block.toByteArray());
+                    block.reset();
+                }
+            }
+            if (block.size() > 0) {
+                writeBlock(channel, deflater, block.toByteArray());
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeBlock(FileChannel channel, Deflater deflater, byte[] block) throws IOException {
+        deflater.reset();
+        deflater.setDictionary(DICTIONARY);
+        deflater.setInput(block);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(block.length / 2);
+        byte[] buffer = new byte[BLOCK_SIZE];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            compressed.write(buffer, 0, length);
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(block.length).putInt(compressed.size()).flip();
+        ByteBuffer[] output = {header, ByteBuffer.wrap(compressed.toByteArray())};
+        while (output[1].hasRemaining()) {
+            channel.write(output);
+        }
+    }
+
+    /**
+     * Returns the length of the file up to the end of its last complete block, so that new blocks
+     * can be appended after a block torn by a crash instead of after it. Only the headers are read.
+     * @param channel the channel of the file
+     * @return the length of the intact part of the file, or 0 if the file is empty
+     */
+    static long intactLength(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0) {
+            return 0;
+        }
+        ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+        channel.read(magic, 0);
+        if (!Arrays.equals(magic.array(), MAGIC)) {
+            throw new IOException("Not a compressed task file");
+        }
+        long offset = MAGIC.length;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (size - offset >= HEADER_SIZE) {
+            header.clear();
+            channel.read(header, offset);
+            header.flip();
+            header.getInt();
+            int compressedLength = header.getInt();
+            if (!isValidCompressedLength(compressedLength) || size - offset - HEADER_SIZE < compressedLength) {
+                break;
+            }
+            offset += HEADER_SIZE + compressedLength;
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,129 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Comma-separated values, with a header line naming the columns. Fields containing commas or quotes are
+ * quoted, with quotes doubled. Files from other programs may leave out columns or put them in another order,
+ * as long as the header names them, and a file without a header is read in the order Duke writes it.
+ *
+ * @author Benjamin Lui
+ */
+class CsvFormat implements RecordFormat {
+    // for each column of the file, the field it holds, or -1 for columns Duke does not use
+    private int[] columns;
+
+    @Override
+    public void writeHeader(Writer out) throws IOException {
+        out.write(String.join(",", TaskTransfer.FIELDS));
+        out.write(System.lineSeparator());
+    }
+
+    @Override
+    public void write(Writer out, String[] record) throws IOException {
+        for (int i = 0; i < record.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            if (record[i] != null) {
+                writeField(out, record[i]);
+            }
+        }
+        out.write(System.lineSeparator());
+    }
+
+    private static void writeField(Writer out, String field) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0) {
+            out.write(field);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    @Override
+    public String[] parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        String[] values = split(line);
+        if (columns == null) {
+            columns = readHeader(values);
+            if (columns != null) {
+                return null;
+            }
+            columns = new int[TaskTransfer.FIELDS.length];
+            Arrays.setAll(columns, i -> i);
+        }
+        String[] record = new String[TaskTransfer.FIELDS.length];
+        for (int i = 0; i < values.length && i < columns.length; i++) {
+            if (columns[i] >= 0 && !values[i].isEmpty()) {
+                record[columns[i]] = values[i];
+            }
+        }
+        return record;
+    }
+
+    /**
+     * Works out which field each column holds from the first line, if it is a header.
+     * @return the field of each column, or null if the line is not a header
+     */
+    private static int[] readHeader(String[] names) {
+        int[] header = new int[names.length];
+        boolean hasType = false;
+        for (int i = 0; i < names.length; i++) {
+            header[i] = Arrays.asList(TaskTransfer.FIELDS).indexOf(names[i].trim());
+            hasType |= header[i] == 0;
+        }
+        return hasType ? header : null;
+    }
+
+    private static String[] split(String line) {
+        String[] values = new String[TaskTransfer.FIELDS.length];
+        int count = 0;
+        StringBuilder value = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == '"') {
+                isQuoted = true;
+            } else if (c == ',') {
+                values = add(values, count++, value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new IllegalArgumentException("A quote is not closed.");
+        }
+        values = add(values, count++, value.toString());
+        return Arrays.copyOf(values, count);
+    }
+
+    private static String[] add(String[] values, int index, String value) {
+        if (index == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[index] = value;
+        return values;
+    }
+}
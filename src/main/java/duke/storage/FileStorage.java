@@ -0,0 +1,460 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+import duke.metrics.Metrics;
+import duke.metrics.StorageFsyncEvent;
+import duke.metrics.StorageLoadEvent;
+import duke.metrics.StorageSaveEvent;
+import duke.task.Task;
+import duke.task.TaskList;
+/**
+ * Stores the tasks in a file.
+ * Open tasks live in the active file at the given path. Done tasks can be moved out into archive
+ * segments, one per month, stored beside it as {@code <name>.archive-YYYY-MM<extension>}.
+ * Archive segments are only ever appended to and are not read unless the archived tasks are asked for.
+ * Every line carries a checksum, and the active file is replaced atomically on save, so a crash
+ * part way through a save leaves the previous version of the file intact.
+ * Files whose names end in {@value CompressedTaskFile#EXTENSION} are stored compressed, archives included.
+ *
+ * @author Benjamin Lui
+ */
+
+public class FileStorage implements Storage {
+
+    final Path path;
+    private IncrementalTaskListEncoder encoder = new IncrementalTaskListEncoder();
+    private final boolean isCompressed;
+    private int corruptRecords = 0;
+    // what the file held when it was last loaded or saved, only worked out when merging external changes
+    private Supplier<List<String>> syncedLines = Collections::emptyList;
+    private FileTime syncedModifiedTime;
+    private long syncedSize = -1;
+
+    public FileStorage(String filePath) {
+        this.path = Paths.get(filePath);
+        this.isCompressed = filePath.endsWith(CompressedTaskFile.EXTENSION);
+    }
+
+    /**
+     * Loads the file at the desired path. If a file is not found,
+     * then a new file is created. Lines that fail their checksum or cannot be decoded,
+     * such as a line torn by a crash, are skipped and counted in {@link #getCorruptRecords()}.
+     * @return an ArrayList of tasks in the file
+     */
+    @Override
+    public TaskList load() throws IOException {
+        StorageLoadEvent event = new StorageLoadEvent();
+        event.begin();
+        long start = Metrics.startTimer();
+        corruptRecords = 0;
+        List<String> lines = readLines(path);
+        TaskList taskList = decodeVerified(lines);
+        markSynced(() -> lines);
+        if (Metrics.isEnabled() || event.isEnabled()) {
+            long fileSize = Files.size(path);
+            Metrics.recordLoad(start, fileSize);
+            event.path = path.toString();
+            event.fileSize = fileSize;
+            event.taskCount = taskList.size();
+            event.commit();
+        }
+        return taskList;
+    }
+
+    /**
+     * Returns the number of lines skipped by the last load because they were corrupted.
+     * @return the number of corrupted lines
+     */
+    @Override
+    public int getCorruptRecords() {
+        return corruptRecords;
+    }
+
+    /**
+     * Decodes the lines of a task file, skipping and counting the lines that are corrupted.
+     * @param lines the lines read from the file
+     * @return the tasks in the lines that are intact
+     */
+    private TaskList decodeVerified(List<String> lines) {
+        ArrayList<Task> tasks = new ArrayList<Task>(lines.size());
+        boolean isSealed = isSealed(lines);
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String record = RecordChecksum.verify(line, isSealed);
+            if (record == null) {
+                corruptRecords++;
+                continue;
+            }
+            try {
+                tasks.add(TaskListDecoder.decodeTaskFromString(record));
+            } catch (RuntimeException e) {
+                corruptRecords++;
+            }
+        }
+        return new TaskList(tasks);
+    }
+
+    /**
+     * Returns whether the file was written with checksums, in which case lines without one are torn.
+     * A file is written either entirely with checksums or, by older versions, entirely without, so the
+     * lines are counted rather than trusting the first one, which may itself be the damaged line.
+     * @param lines the lines read from the file
+     * @return true if at least half of the lines that are not blank have a checksum
+     */
+    private static boolean isSealed(List<String> lines) {
+        int sealedLines = 0;
+        int unsealedLines = 0;
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            if (RecordChecksum.hasChecksum(line)) {
+                sealedLines++;
+            } else {
+                unsealedLines++;
+            }
+        }
+        return sealedLines > 0 && sealedLines >= unsealedLines;
+    }
+
+    /**
+     * Saves all the task from the current list of tasks to the file.
+     * The tasks are written to a temporary file which is flushed to disk and then renamed over the file,
+     * so the file always holds either the previous or the new list of tasks. Only the tasks that changed
+     * since the last save are encoded again; the rest are written straight from their cached bytes.
+     * If another program changed the file since it was last loaded or saved, its changes are merged into
+     * the list first, keeping duke.Duke's own version of the tasks both sides changed, so they are not
+     * written over.
+     * @param taskList the list of tasks to be saved, which is changed in place if the file was changed
+     */
+    @Override
+    public void save(TaskList taskList) throws IOException {
+        if (isChangedExternally()) {
+            mergeExternalChanges(taskList, MergePolicy.KEEP_LOCAL);
+            return;
+        }
+        StorageSaveEvent event = new StorageSaveEvent();
+        event.begin();
+        long start = Metrics.startTimer();
+        ByteBuffer[] encodedTaskList = encoder.encode(taskList);
+        replaceFile(encodedTaskList);
+        markSynced(() -> toLines(encodedTaskList));
+        if (Metrics.isEnabled() || event.isEnabled()) {
+            long fileSize = Files.size(path);
+            Metrics.recordSave(start, fileSize);
+            event.path = path.toString();
+            event.fileSize = fileSize;
+            event.taskCount = taskList.size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes lines to a temporary file which is flushed to disk and then renamed over the file.
+     * @param lines the lines to be written, each ending with a line separator
+     */
+    private void replaceFile(ByteBuffer[] lines) throws IOException {
+        Path temporaryFile = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeLines(channel, lines);
+            force(channel, temporaryFile);
+        }
+        try {
+            Files.move(temporaryFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        forceDirectory();
+    }
+
+    /**
+     * Merges the changes made to the file by another program since it was last loaded or saved
+     * into the list of tasks, then saves the merged list.
+     * @param taskList the list of tasks in memory, which is changed in place
+     * @param policy which side wins when one side deleted a task that the other marked as done
+     * @return the changes applied to the list of tasks, which are empty if the file was not changed
+     */
+    @Override
+    public MergeResult mergeExternalChanges(TaskList taskList, MergePolicy policy) throws IOException {
+        if (!isChangedExternally()) {
+            return new MergeResult();
+        }
+        List<String> baseRecords = new ArrayList<String>();
+        for (String line : syncedLines.get()) {
+            String record = RecordChecksum.verify(line, false);
+            if (record != null && !record.isBlank()) {
+                baseRecords.add(record);
+            }
+        }
+        corruptRecords = 0;
+        List<String> lines = readLines(path);
+        TaskList external = decodeEdited(lines);
+        markSynced(() -> lines);
+        taskList.beginBatch();
+        MergeResult result;
+        try {
+            result = TaskListMerger.merge(taskList, external, baseRecords, policy, corruptRecords == 0);
+        } finally {
+            taskList.endBatch();
+        }
+        if (result.hasChanges()) {
+            taskList.getUndoLog().clear();
+        }
+        save(taskList);
+        return result;
+    }
+
+    /**
+     * Returns whether the file was changed by another program since it was last loaded or saved.
+     * @return true if the size or the modified time of the file is not what it was when last synced
+     */
+    private boolean isChangedExternally() throws IOException {
+        if (syncedModifiedTime == null || !Files.exists(path)) {
+            return false;
+        }
+        return Files.size(path) != syncedSize || !Files.getLastModifiedTime(path).equals(syncedModifiedTime);
+    }
+
+    /**
+     * Decodes the lines of a task file changed by another program, counting the lines that cannot be decoded.
+     * Checksums are not verified, since a line edited in place no longer matches its checksum and a line
+     * added by hand has none.
+     * @param lines the lines read from the file
+     * @return the tasks in the lines that can be decoded
+     */
+    private TaskList decodeEdited(List<String> lines) {
+        ArrayList<Task> tasks = new ArrayList<Task>(lines.size());
+        for (String line : lines) {
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                tasks.add(TaskListDecoder.decodeTaskFromString(RecordChecksum.strip(line.strip())));
+            } catch (RuntimeException e) {
+                corruptRecords++;
+            }
+        }
+        return new TaskList(tasks);
+    }
+
+    private void markSynced(Supplier<List<String>> lines) throws IOException {
+        syncedLines = lines;
+        syncedSize = Files.size(path);
+        syncedModifiedTime = Files.getLastModifiedTime(path);
+    }
+
+    private List<String> toLines(ByteBuffer[] encodedLines) {
+        List<String> lines = new ArrayList<String>(encodedLines.length);
+        for (ByteBuffer encodedLine : encodedLines) {
+            ByteBuffer line = encodedLine.duplicate();
+            line.rewind();
+            lines.add(StandardCharsets.UTF_8.decode(line).toString().stripTrailing());
+        }
+        return lines;
+    }
+
+    /**
+     * Reads the lines of a task file, decompressing it if needed.
+     * Compressed blocks that are torn or corrupted are counted in {@link #getCorruptRecords()}.
+     * @param file the file to be read
+     * @return the lines of the file
+     */
+    private List<String> readLines(Path file) throws IOException {
+        if (!isCompressed) {
+            return Files.readAllLines(file);
+        }
+        CompressedTaskFile compressedFile = CompressedTaskFile.read(file);
+        corruptRecords += compressedFile.getCorruptBlocks();
+        return compressedFile.getLines();
+    }
+
+    /**
+     * Writes lines at the current position of a new or intact file, compressing them if needed.
+     * @param channel the channel to be written to
+     * @param lines the lines to be written, each ending with a line separator
+     */
+    private void writeLines(FileChannel channel, ByteBuffer[] lines) throws IOException {
+        if (!isCompressed) {
+            writeFully(channel, lines);
+            return;
+        }
+        if (channel.position() == 0) {
+            CompressedTaskFile.writeMagic(channel);
+        }
+        CompressedTaskFile.writeBlocks(channel, lines);
+    }
+
+    private void writeFully(FileChannel channel, ByteBuffer[] lines) throws IOException {
+        int first = 0;
+        while (first < lines.length) {
+            channel.write(lines, first, lines.length - first);
+            while (first < lines.length && !lines[first].hasRemaining()) {
+                first++;
+            }
+        }
+    }
+
+    private ByteBuffer[] sealedLines(List<String> encodedTasks) {
+        ByteBuffer[] lines = new ByteBuffer[encodedTasks.size()];
+        for (int i = 0; i < lines.length; i++) {
+            String line = RecordChecksum.seal(encodedTasks.get(i)) + System.lineSeparator();
+            lines[i] = ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8));
+        }
+        return lines;
+    }
+
+    private void force(FileChannel channel, Path file) throws IOException {
+        StorageFsyncEvent event = new StorageFsyncEvent();
+        event.begin();
+        channel.force(true);
+        event.path = file.toString();
+        event.fileSize = channel.size();
+        event.commit();
+    }
+
+    /**
+     * Flushes the directory entry of the renamed file to disk, where the platform allows it.
+     */
+    private void forceDirectory() {
+        Path directory = path.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened for syncing on some platforms, such as Windows
+            return;
+        }
+    }
+
+    /**
+     * Moves the done tasks out of the list into this month's archive segment and saves the remaining tasks.
+     * The archived tasks are written before the active file, so a failure part way can leave a task in both
+     * files but never in neither.
+     * @param taskList the list of tasks to be archived from
+     * @return the number of tasks archived
+     */
+    @Override
+    public int archive(TaskList taskList) throws IOException {
+        List<Task> doneTasks = new ArrayList<Task>();
+        for (Task task : taskList.getAllTasks()) {
+            if (task.isDone()) {
+                doneTasks.add(task);
+            }
+        }
+        if (doneTasks.isEmpty()) {
+            return 0;
+        }
+        List<String> encodedDoneTasks = TaskListEncoder.encodeTaskList(new TaskList(new ArrayList<Task>(doneTasks)));
+        Path segment = archiveSegment(YearMonth.now());
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            if (isCompressed) {
+                // blocks appended after a torn block would never be read, so drop the torn block first
+                long intactLength = CompressedTaskFile.intactLength(channel);
+                channel.truncate(intactLength);
+                channel.position(intactLength);
+            } else {
+                long size = channel.size();
+                channel.position(size);
+                if (size > 0 && !endsWithNewLine(channel, size)) {
+                    // a torn last line must not swallow the first archived task
+                    channel.write(ByteBuffer.wrap(System.lineSeparator().getBytes(StandardCharsets.UTF_8)));
+                }
+            }
+            writeLines(channel, sealedLines(encodedDoneTasks));
+            force(channel, segment);
+        }
+        if (taskList.removeIf(Task::isDone) > 0) {
+            // archived tasks cannot be put back, and the positions recorded for undoing have moved
+            taskList.getUndoLog().clear();
+        }
+        save(taskList);
+        return doneTasks.size();
+    }
+
+    private boolean endsWithNewLine(FileChannel channel, long size) throws IOException {
+        ByteBuffer lastByte = ByteBuffer.allocate(1);
+        channel.read(lastByte, size - 1);
+        return lastByte.get(0) == '\n';
+    }
+
+    /**
+     * Loads the tasks from every archive segment, oldest month first.
+     * Corrupted lines are skipped and counted in {@link #getCorruptRecords()}.
+     * @return the archived tasks
+     */
+    @Override
+    public TaskList loadArchive() throws IOException {
+        corruptRecords = 0;
+        List<String> encodedTasks = new ArrayList<String>();
+        for (Path segment : archiveSegments()) {
+            encodedTasks.addAll(readLines(segment));
+        }
+        return decodeVerified(encodedTasks);
+    }
+
+    /**
+     * Returns the archive segments of this file, oldest month first.
+     * @return the paths of the archive segments
+     */
+    List<Path> archiveSegments() throws IOException {
+        List<Path> segments = new ArrayList<Path>();
+        Path directory = path.toAbsolutePath().getParent();
+        String glob = baseName() + ".archive-*" + extension();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+            for (Path segment : stream) {
+                segments.add(segment);
+            }
+        }
+        // the names end in YYYY-MM, so sorting them by name sorts them by month
+        Collections.sort(segments);
+        return segments;
+    }
+
+    Path archiveSegment(YearMonth month) {
+        return path.resolveSibling(baseName() + ".archive-" + month + extension());
+    }
+
+    private String baseName() {
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    private String extension() {
+        String fileName = path.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(dot) : "";
+    }
+
+    /**
+     * Empties the file without reading it, by swapping in an empty file the same way a save replaces it.
+     * The archive segments are kept.
+     */
+    @Override
+    public void clear() throws IOException {
+        replaceFile(new ByteBuffer[0]);
+        // the bytes kept for tasks that were in the file are no longer needed
+        encoder = new IncrementalTaskListEncoder();
+        markSynced(Collections::emptyList);
+    }
+}
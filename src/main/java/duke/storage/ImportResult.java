@@ -0,0 +1,36 @@
+package duke.storage;
+
+/**
+ * Summary of the tasks read from a file by an import.
+ *
+ * @author Benjamin Lui
+ */
+public class ImportResult {
+    private int imported = 0;
+    private int duplicates = 0;
+    private int invalid = 0;
+
+    void taskImported() {
+        imported++;
+    }
+
+    void duplicateSkipped() {
+        duplicates++;
+    }
+
+    void invalidSkipped() {
+        invalid++;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public int getInvalid() {
+        return invalid;
+    }
+}
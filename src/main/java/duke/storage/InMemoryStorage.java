@@ -0,0 +1,87 @@
+package duke.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Keeps the saved tasks in memory, so that tests and headless tools never touch the disk.
+ * Tasks are kept encoded the same way as in a task file, so a load returns new copies of the tasks as they were
+ * when saved, just as loading a file would.
+ *
+ * @author Benjamin Lui
+ */
+public class InMemoryStorage implements Storage {
+    private List<String> records = Collections.emptyList();
+    private final List<String> archivedRecords = new ArrayList<String>();
+    private int corruptRecords = 0;
+
+    @Override
+    public TaskList load() {
+        return decode(records);
+    }
+
+    @Override
+    public int getCorruptRecords() {
+        return corruptRecords;
+    }
+
+    private TaskList decode(List<String> encodedTasks) {
+        corruptRecords = 0;
+        ArrayList<Task> tasks = new ArrayList<Task>(encodedTasks.size());
+        for (String record : encodedTasks) {
+            try {
+                tasks.add(TaskListDecoder.decodeTaskFromString(record));
+            } catch (RuntimeException e) {
+                corruptRecords++;
+            }
+        }
+        return new TaskList(tasks);
+    }
+
+    @Override
+    public void save(TaskList taskList) {
+        records = TaskListEncoder.encodeTaskList(taskList);
+    }
+
+    /**
+     * Returns no changes, as nothing else can change tasks kept in memory.
+     */
+    @Override
+    public MergeResult mergeExternalChanges(TaskList taskList, MergePolicy policy) {
+        return new MergeResult();
+    }
+
+    @Override
+    public int archive(TaskList taskList) {
+        int archived = 0;
+        for (Task task : taskList.getAllTasks()) {
+            if (task.isDone()) {
+                archivedRecords.add(task.toString());
+                archived++;
+            }
+        }
+        if (archived == 0) {
+            return 0;
+        }
+        if (taskList.removeIf(Task::isDone) > 0) {
+            // archived tasks cannot be put back, and the positions recorded for undoing have moved
+            taskList.getUndoLog().clear();
+        }
+        save(taskList);
+        return archived;
+    }
+
+    @Override
+    public TaskList loadArchive() {
+        return decode(archivedRecords);
+    }
+
+    @Override
+    public void clear() {
+        records = Collections.emptyList();
+    }
+}
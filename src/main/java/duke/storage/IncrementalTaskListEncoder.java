@@ -0,0 +1,85 @@
+package duke.storage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Encodes a list of tasks into the lines of a task file, keeping the encoded bytes of every task
+ * so that only the tasks that changed since the last save are encoded again. The bytes are kept with the
+ * version of the task they were encoded from, so several encoders can cache the same tasks independently.
+ * The encoded lines are returned as separate buffers, ready to be written with a single gathering write.
+ *
+ * @author Benjamin Lui
+ */
+public class IncrementalTaskListEncoder {
+    private IdentityHashMap<Task, EncodedTask> encodedTasks = new IdentityHashMap<Task, EncodedTask>();
+    private int reencodedCount = 0;
+
+    /**
+     * Encodes the list of tasks, reusing the bytes of the tasks that have not changed since they were encoded.
+     * @param toSave the list of tasks to be saved
+     * @return one buffer per task, each holding the task's checksummed line
+     */
+    public ByteBuffer[] encode(TaskList toSave) {
+        ArrayList<Task> tasks = toSave.getAllTasks();
+        ByteBuffer[] lines = new ByteBuffer[tasks.size()];
+        reencodedCount = 0;
+        for (int i = 0; i < lines.length; i++) {
+            Task task = tasks.get(i);
+            EncodedTask encoded = encodedTasks.get(task);
+            if (encoded == null || encoded.version != task.getVersion()) {
+                encoded = new EncodedTask(task.getVersion(), encode(task));
+                encodedTasks.put(task, encoded);
+                reencodedCount++;
+            }
+            lines[i] = encoded.line.duplicate();
+        }
+        if (encodedTasks.size() > 2 * tasks.size()) {
+            forgetDeletedTasks(tasks);
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the number of tasks that had to be encoded again by the last call to {@link #encode(TaskList)}.
+     * @return the number of tasks encoded again
+     */
+    public int getReencodedCount() {
+        return reencodedCount;
+    }
+
+    private ByteBuffer encode(Task task) {
+        String line = RecordChecksum.seal(task.toString()) + System.lineSeparator();
+        return ByteBuffer.wrap(line.getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
+    }
+
+    /**
+     * Drops the bytes of the tasks that are no longer in the list, once they make up most of the cache.
+     * @param tasks the tasks currently in the list
+     */
+    private void forgetDeletedTasks(ArrayList<Task> tasks) {
+        IdentityHashMap<Task, EncodedTask> remaining = new IdentityHashMap<Task, EncodedTask>(tasks.size());
+        for (Task task : tasks) {
+            remaining.put(task, encodedTasks.get(task));
+        }
+        encodedTasks = remaining;
+    }
+
+    /**
+     * The line a task was encoded into, and the version of the task it was encoded from.
+     */
+    private static class EncodedTask {
+        private final int version;
+        private final ByteBuffer line;
+
+        EncodedTask(int version, ByteBuffer line) {
+            this.version = version;
+            this.line = line;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JSON Lines, with each task written as a flat JSON object on a line of its own, for example
+ * {@code {"type":"deadline","done":false,"description":"submit report","date":"2026-11-01"}}.
+ * Fields a task does not have are left out, and keys Duke does not use are ignored when reading.
+ *
+ * @author Benjamin Lui
+ */
+class JsonLinesFormat implements RecordFormat {
+    private static final List<String> FIELDS = Arrays.asList(TaskTransfer.FIELDS);
+    // fields written as JSON booleans and numbers rather than strings
+    private static final List<String> UNQUOTED_FIELDS = Arrays.asList("done", "occurrencesDone");
+
+    @Override
+    public void writeHeader(Writer out) { }
+
+    @Override
+    public void write(Writer out, String[] record) throws IOException {
+        out.write('{');
+        boolean isFirst = true;
+        for (int i = 0; i < record.length; i++) {
+            if (record[i] == null) {
+                continue;
+            }
+            if (!isFirst) {
+                out.write(',');
+            }
+            isFirst = false;
+            writeString(out, FIELDS.get(i));
+            out.write(':');
+            if (UNQUOTED_FIELDS.contains(FIELDS.get(i))) {
+                out.write(record[i]);
+            } else {
+                writeString(out, record[i]);
+            }
+        }
+        out.write('}');
+        out.write(System.lineSeparator());
+    }
+
+    private static void writeString(Writer out, String value) throws IOException {
+        out.write('"');
+        // characters that need no escaping are written in runs rather than one at a time
+        int run = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String escaped = escape(value.charAt(i));
+            if (escaped != null) {
+                out.write(value, run, i - run);
+                out.write(escaped);
+                run = i + 1;
+            }
+        }
+        out.write(value, run, value.length() - run);
+        out.write('"');
+    }
+
+    private static String escape(char c) {
+        switch (c) {
+        case '"':
+            return "\\\"";
+        case '\\':
+            return "\\\\";
+        case '\n':
+            return "\\n";
+        case '\r':
+            return "\\r";
+        case '\t':
+            return "\\t";
+        default:
+            return c < 0x20 ? String.format("\\u%04x", (int) c) : null;
+        }
+    }
+
+    @Override
+    public String[] parse(String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        LineReader reader = new LineReader(line);
+        String[] record = new String[FIELDS.size()];
+        reader.expect('{');
+        if (!reader.skip('}')) {
+            do {
+                String key = reader.readString();
+                reader.expect(':');
+                String value = reader.readValue();
+                int field = FIELDS.indexOf(key);
+                if (field >= 0) {
+                    record[field] = value;
+                }
+            } while (reader.skip(','));
+            reader.expect('}');
+        }
+        reader.expectEnd();
+        return record;
+    }
+
+    /**
+     * Reads the tokens of a flat JSON object from a line.
+     */
+    private static class LineReader {
+        private final String line;
+        private int position = 0;
+
+        LineReader(String line) {
+            this.line = line;
+        }
+
+        void expect(char c) {
+            if (!skip(c)) {
+                throw new IllegalArgumentException("Expected '" + c + "' at column " + (position + 1) + ".");
+            }
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (position < line.length()) {
+                throw new IllegalArgumentException("Unexpected text at column " + (position + 1) + ".");
+            }
+        }
+
+        boolean skip(char c) {
+            skipWhitespace();
+            if (position < line.length() && line.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+        }
+
+        /**
+         * Reads a string, or the text of a boolean or a number, or null for a JSON null.
+         */
+        String readValue() {
+            skipWhitespace();
+            if (position < line.length() && line.charAt(position) == '"') {
+                return readString();
+            }
+            int start = position;
+            while (position < line.length() && ",}".indexOf(line.charAt(position)) < 0
+                    && !Character.isWhitespace(line.charAt(position))) {
+                position++;
+            }
+            String literal = line.substring(start, position);
+            if (literal.isEmpty() || literal.startsWith("{") || literal.startsWith("[")) {
+                throw new IllegalArgumentException("Expected a string, number, boolean or null at column "
+                        + (start + 1) + ".");
+            }
+            return literal.equals("null") ? null : literal;
+        }
+
+        String readString() {
+            expect('"');
+            StringBuilder value = new StringBuilder();
+            while (position < line.length()) {
+                char c = line.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position >= line.length()) {
+                    break;
+                }
+                char escaped = line.charAt(position++);
+                switch (escaped) {
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'u':
+                    if (position + 4 > line.length()) {
+                        throw new IllegalArgumentException("A unicode escape is cut short.");
+                    }
+                    value.append((char) Integer.parseInt(line.substring(position, position + 4), 16));
+                    position += 4;
+                    break;
+                default:
+                    value.append(escaped);
+                    break;
+                }
+            }
+            throw new IllegalArgumentException("A string is not closed.");
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package duke.storage;
+
+/**
+ * Decides which side wins when the task file was changed by another program while duke.Duke had
+ * changed the same task: one side deleted the task while the other marked it as done.
+ *
+ * @author Benjamin Lui
+ */
+public enum MergePolicy {
+    /** Keeps duke.Duke's own version of the task. */
+    KEEP_LOCAL,
+    /** Keeps the other program's version of the task. */
+    KEEP_EXTERNAL
+}
@@ -0,0 +1,41 @@
+package duke.storage;
+
+/**
+ * Summary of the changes applied to the list of tasks when merging changes made to the task file
+ * by another program.
+ *
+ * @author Benjamin Lui
+ */
+public class MergeResult {
+    private int added = 0;
+    private int removed = 0;
+    private int updated = 0;
+
+    void taskAdded() {
+        added++;
+    }
+
+    void taskRemoved() {
+        removed++;
+    }
+
+    void taskUpdated() {
+        updated++;
+    }
+
+    public int getAdded() {
+        return added;
+    }
+
+    public int getRemoved() {
+        return removed;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public boolean hasChanges() {
+        return added + removed + updated > 0;
+    }
+}
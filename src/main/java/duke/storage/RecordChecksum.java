@@ -0,0 +1,76 @@
+package duke.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * Adds and verifies the CRC32C checksum stored at the end of every line of a task file.
+ * A line is the encoded task, a tab and the checksum of the encoded task as eight hex digits.
+ * Files written by older versions of duke.Duke have no checksums, and their lines are accepted as they are.
+ *
+ * @author Benjamin Lui
+ */
+class RecordChecksum {
+    private static final char SEPARATOR = '\t';
+    private static final int CHECKSUM_LENGTH = 8;
+    private static final int HEX = 16;
+
+    private RecordChecksum() { }
+
+    /**
+     * Appends the checksum of the record to it.
+     * @param record the encoded task
+     * @return the line to be written to the file
+     */
+    static String seal(String record) {
+        return record + SEPARATOR + String.format("%08x", checksum(record));
+    }
+
+    /**
+     * Returns whether the line ends with something in the place of a checksum.
+     * @param line the line read from the file
+     * @return true if the line has a checksum, whether or not it matches
+     */
+    static boolean hasChecksum(String line) {
+        int separator = line.length() - CHECKSUM_LENGTH - 1;
+        return separator >= 0 && line.charAt(separator) == SEPARATOR;
+    }
+
+    /**
+     * Strips and verifies the checksum of a line read from the file.
+     * @param line the line read from the file
+     * @param isSealed whether the file was written with checksums, in which case lines without one are torn
+     * @return the encoded task, or null if the checksum is missing or does not match
+     */
+    static String verify(String line, boolean isSealed) {
+        if (!hasChecksum(line)) {
+            return isSealed ? null : line;
+        }
+        int separator = line.length() - CHECKSUM_LENGTH - 1;
+        String record = line.substring(0, separator);
+        try {
+            long expected = Long.parseLong(line.substring(separator + 1), HEX);
+            return expected == checksum(record) ? record : null;
+        } catch (NumberFormatException nfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Strips the checksum of a line without verifying it, for lines that another program may have edited.
+     * @param line the line read from the file
+     * @return the line without its checksum, or the line itself if it has none
+     */
+    static String strip(String line) {
+        if (!hasChecksum(line)) {
+            return line;
+        }
+        return line.substring(0, line.length() - CHECKSUM_LENGTH - 1);
+    }
+
+    private static long checksum(String record) {
+        CRC32C crc = new CRC32C();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,34 @@
+package duke.storage;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Format of the files tasks are imported from and exported to, with one task per line.
+ * Each task is handled as a record of strings in the order of {@link TaskTransfer#FIELDS},
+ * where a field the task does not have is null.
+ *
+ * @author Benjamin Lui
+ */
+interface RecordFormat {
+    /**
+     * Writes whatever comes before the first record, if the format has anything.
+     * @param out the writer the file is written through
+     */
+    void writeHeader(Writer out) throws IOException;
+
+    /**
+     * Writes a record as one line, including its line separator.
+     * @param out the writer the file is written through
+     * @param record the fields of a task
+     */
+    void write(Writer out, String[] record) throws IOException;
+
+    /**
+     * Reads a line of the file.
+     * @param line a line of the file, without its line separator
+     * @return the fields of the task on the line, or null if the line does not hold a task
+     * @throws IllegalArgumentException if the line is not written correctly
+     */
+    String[] parse(String line);
+}
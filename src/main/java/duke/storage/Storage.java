@@ -1,58 +1,58 @@
 package duke.storage;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.List;
 
 import duke.task.TaskList;
+
 /**
- * Contains the logic for file operations.
+ * Where the list of tasks is saved to and loaded from. {@link FileStorage} keeps the tasks in a file,
+ * and {@link InMemoryStorage} keeps them in memory for tests and headless tools that should not touch the disk.
  *
  * @author Benjamin Lui
  */
+public interface Storage {
+    /**
+     * Loads the saved tasks, skipping any that are corrupted.
+     * @return the saved tasks, or an empty list if none have been saved
+     */
+    TaskList load() throws IOException;
 
-public class Storage {
+    /**
+     * Returns the number of saved tasks skipped by the last load because they were corrupted.
+     * @return the number of corrupted tasks
+     */
+    int getCorruptRecords();
 
-    final Path path;
+    /**
+     * Saves all the tasks in the list, replacing the tasks saved before.
+     * @param taskList the list of tasks to be saved
+     */
+    void save(TaskList taskList) throws IOException;
 
-    public Storage(String filePath) {
-        this.path = Paths.get(filePath);
-    }
+    /**
+     * Merges the changes made to the saved tasks by another program since they were last loaded or saved
+     * into the list of tasks, then saves the merged list.
+     * @param taskList the list of tasks in memory, which is changed in place
+     * @param policy which side wins when one side deleted a task that the other marked as done
+     * @return the changes applied to the list of tasks, which are empty if nothing else changed them
+     */
+    MergeResult mergeExternalChanges(TaskList taskList, MergePolicy policy) throws IOException;
 
     /**
-     * Loads the file at the desired path. If a file is not found,
-     * then a new file is created.
-     * @return an ArrayList of tasks in the file
+     * Moves the done tasks out of the list into the archive and saves the remaining tasks.
+     * @param taskList the list of tasks to be archived from
+     * @return the number of tasks archived
      */
-    public TaskList load() throws IOException {
-        return TaskListDecoder.decodeTaskList(Files.readAllLines(path));
-    }
+    int archive(TaskList taskList) throws IOException;
 
     /**
-     * Saves all the task from the current list of tasks to the file.
-     * @param taskList the list of tasks to be saved
+     * Loads the archived tasks, oldest first.
+     * @return the archived tasks
      */
-    public void save(TaskList taskList) {
-        try {
-            List<String> encodedTaskList = TaskListEncoder.encodeTaskList(taskList);
-            Files.write(path, encodedTaskList);
-        } catch (IOException ioe) {
-            System.out.println("Error writing to file");
-        }
-    }
+    TaskList loadArchive() throws IOException;
 
     /**
-     * Clears all the task in the current text file.
+     * Removes all the saved tasks, apart from archived ones, without reading them.
      */
-    public void clear() {
-        try {
-            TaskList tskLst = this.load();
-            tskLst.clearTasks();
-            save(tskLst);
-        } catch (IOException ioe) {
-            return;
-        }
-    }
+    void clear() throws IOException;
 }
@@ -0,0 +1,70 @@
+package duke.storage;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Watches a task file for changes and calls back whenever the file may have been changed.
+ * Changes made by duke.Duke's own saves are reported too; {@link Storage#mergeExternalChanges}
+ * tells them apart and ignores them.
+ *
+ * @author Benjamin Lui
+ */
+public class TaskFileWatcher implements Closeable {
+    private final Path file;
+    private final Runnable onChange;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    /**
+     * Constructor for the watcher, which starts watching straight away.
+     * @param file the task file to be watched
+     * @param onChange called on the watcher's thread whenever the file may have changed
+     */
+    public TaskFileWatcher(Path file, Runnable onChange) throws IOException {
+        this.file = file.toAbsolutePath();
+        this.onChange = onChange;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.file.getParent().register(watchService,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "duke-file-watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean isChanged = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW
+                            || file.getFileName().equals(event.context())) {
+                        isChanged = true;
+                    }
+                }
+                key.reset();
+                if (isChanged) {
+                    onChange.run();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            return;
+        }
+    }
+
+    /**
+     * Stops watching the file.
+     */
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -5,6 +5,7 @@ import java.util.List;
 
 import duke.task.DeadLine;
 import duke.task.Event;
+import duke.task.RecurringTask;
 import duke.task.Task;
 import duke.task.TaskList;
 import duke.task.Todo;
@@ -58,6 +59,10 @@ public class TaskListDecoder {
             DesAndTime eventDetails = new DesAndTime(taskDescription);
             eventDetails.event();
             return new Event(eventDetails.getDes(), eventDetails.getTime(), done);
+        case "R" :
+            int rule = taskDescription.lastIndexOf(" (every ");
+            return RecurringTask.decode(taskDescription.substring(0, rule),
+                    taskDescription.substring(rule + 2, taskDescription.length() - 1));
         default:
             return new Task("Invalid Task");
         }
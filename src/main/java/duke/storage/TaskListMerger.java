@@ -0,0 +1,105 @@
+package duke.storage;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import duke.task.Task;
+import duke.task.TaskList;
+
+/**
+ * Merges the tasks in a task file changed by another program into the list of tasks in memory.
+ * The version of the file that duke.Duke last loaded or saved is used as the common base, so that a task
+ * missing on one side can be told apart as deleted by that side or added by the other.
+ * Tasks are matched by their type and details, ignoring whether they are done. A task only ever goes
+ * from not done to done, so it is done if either side marked it as done.
+ *
+ * @author Benjamin Lui
+ */
+class TaskListMerger {
+    private static final int STATUS_INDEX = 4;
+    private static final int DESCRIPTION_INDEX = 6;
+
+    private TaskListMerger() { }
+
+    /**
+     * Applies the changes made to the file to the list of tasks in memory, in place.
+     * Tasks added by the other program are appended to the end of the list.
+     * @param local the list of tasks in memory
+     * @param external the tasks now in the file
+     * @param baseRecords the encoded tasks the file held when it was last loaded or saved
+     * @param policy which side wins when one side deleted a task that the other marked as done
+     * @param isExternalComplete whether every line of the file could be read; if not, a task missing from
+     *     the file may be on a line that could not be read, so no task is taken as deleted by the other program
+     * @return the changes applied to the list of tasks in memory
+     */
+    static MergeResult merge(TaskList local, TaskList external, List<String> baseRecords, MergePolicy policy,
+            boolean isExternalComplete) {
+        Map<String, Boolean> base = new HashMap<String, Boolean>();
+        for (String record : baseRecords) {
+            base.put(keyOf(record), record.charAt(STATUS_INDEX) == 'X');
+        }
+        Map<String, Task> externalTasks = new LinkedHashMap<String, Task>();
+        for (Task task : external.getAllTasks()) {
+            externalTasks.put(keyOf(task.toString()), task);
+        }
+
+        MergeResult result = new MergeResult();
+        Set<String> localKeys = new HashSet<String>();
+        local.removeIf(task -> {
+            String key = keyOf(task.toString());
+            localKeys.add(key);
+            Task externalTask = externalTasks.get(key);
+            if (externalTask != null) {
+                if (externalTask.isDone() && !task.isDone()) {
+                    local.markAsDone(task);
+                    result.taskUpdated();
+                }
+                return false;
+            }
+            if (!base.containsKey(key) || !isExternalComplete) {
+                // added here since the file was last synced, so the other program never saw it,
+                // or possibly on a line of the file that could not be read
+                return false;
+            }
+            boolean isChangedHere = base.get(key) != task.isDone();
+            if (isChangedHere && policy == MergePolicy.KEEP_LOCAL) {
+                return false;
+            }
+            result.taskRemoved();
+            return true;
+        });
+
+        for (Map.Entry<String, Task> entry : externalTasks.entrySet()) {
+            if (localKeys.contains(entry.getKey())) {
+                continue;
+            }
+            Boolean baseIsDone = base.get(entry.getKey());
+            if (baseIsDone != null) {
+                // deleted here since the file was last synced
+                boolean isChangedThere = baseIsDone != entry.getValue().isDone();
+                if (!isChangedThere || policy == MergePolicy.KEEP_LOCAL) {
+                    continue;
+                }
+            }
+            local.add(entry.getValue());
+            result.taskAdded();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the key that matches an encoded task regardless of whether it is done.
+     * @param record the encoded task, such as {@code [D][X] return book (by: Jan 05 2020)}
+     * @return the encoded task without its status icon
+     */
+    static String keyOf(String record) {
+        if (record.length() < DESCRIPTION_INDEX) {
+            return record;
+        }
+        return record.substring(0, STATUS_INDEX - 1) + record.substring(DESCRIPTION_INDEX);
+    }
+}
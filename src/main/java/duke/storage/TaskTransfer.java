@@ -0,0 +1,238 @@
+package duke.storage;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import duke.task.DeadLine;
+import duke.task.Event;
+import duke.task.RecurringTask;
+import duke.task.Task;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+/**
+ * Imports tasks from, and exports tasks to, files that other programs can read: CSV files ending in
+ * {@value #CSV_EXTENSION} and JSON Lines files ending in {@value #JSON_LINES_EXTENSION}.
+ * Files are streamed a line at a time through buffered channels, so the memory used does not grow with
+ * the size of the file beyond the tasks themselves.
+ *
+ * @author Benjamin Lui
+ */
+public class TaskTransfer {
+    public static final String CSV_EXTENSION = ".csv";
+    public static final String JSON_LINES_EXTENSION = ".jsonl";
+    // the fields of a task, in the order of the columns of a CSV file
+    static final String[] FIELDS = {"type", "done", "description", "date", "every", "occurrencesDone"};
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int TYPE = 0;
+    private static final int DONE = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int DATE = 3;
+    private static final int EVERY = 4;
+    private static final int OCCURRENCES_DONE = 5;
+
+    /**
+     * Returns whether tasks can be imported from and exported to a file, based on its extension.
+     * @param file the name of the file
+     * @return true if the file is a CSV or JSON Lines file
+     */
+    public static boolean isSupported(String file) {
+        String name = file.toLowerCase(Locale.ROOT);
+        return name.endsWith(CSV_EXTENSION) || name.endsWith(JSON_LINES_EXTENSION);
+    }
+
+    private static RecordFormat formatOf(Path file) {
+        if (!isSupported(file.toString())) {
+            throw new IllegalArgumentException("Only " + CSV_EXTENSION + " and " + JSON_LINES_EXTENSION
+                    + " files are supported.");
+        }
+        String name = file.toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(CSV_EXTENSION) ? new CsvFormat() : new JsonLinesFormat();
+    }
+
+    /**
+     * Writes tasks to a file, replacing it. The file is written under a temporary name and then renamed,
+     * so it never holds part of an export.
+     * @param tasks the tasks to be exported, which must not change while they are written
+     * @param file a file ending in {@value #CSV_EXTENSION} or {@value #JSON_LINES_EXTENSION}
+     * @return the number of tasks exported
+     * @throws IllegalArgumentException if the file is not a CSV or JSON Lines file
+     */
+    public static int export(List<Task> tasks, Path file) throws IOException {
+        RecordFormat format = formatOf(file);
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1),
+                        BUFFER_SIZE)) {
+            format.writeHeader(out);
+            for (Task task : tasks) {
+                format.write(out, toRecord(task));
+            }
+            out.flush();
+            channel.force(true);
+        }
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return tasks.size();
+    }
+
+    /**
+     * Adds the tasks in a file to the end of a list, as one batch of changes. Tasks already in the list,
+     * or earlier in the file, are skipped, as are lines that are not written correctly.
+     * The list is not saved, so that the caller can save it once afterwards. If the file cannot be read to
+     * the end, the tasks already added are taken out again, so the list is left as it was.
+     * @param file a file ending in {@value #CSV_EXTENSION} or {@value #JSON_LINES_EXTENSION}
+     * @param taskList the list of tasks to be added to
+     * @return the number of tasks imported and skipped
+     * @throws IllegalArgumentException if the file is not a CSV or JSON Lines file
+     */
+    public static ImportResult importTasks(Path file, TaskList taskList) throws IOException {
+        RecordFormat format = formatOf(file);
+        ImportResult result = new ImportResult();
+        // duplicates are found with one set, rather than by searching the list for every task
+        Set<Task> known = new HashSet<Task>(taskList.getAllTasks());
+        int sizeBefore = taskList.size();
+        boolean isComplete = false;
+        taskList.beginBatch();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                BufferedReader in = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder()
+                        .onMalformedInput(CodingErrorAction.REPLACE), -1), BUFFER_SIZE)) {
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                Task task;
+                try {
+                    String[] record = format.parse(line);
+                    if (record == null) {
+                        continue;
+                    }
+                    task = fromRecord(record);
+                } catch (RuntimeException e) {
+                    result.invalidSkipped();
+                    continue;
+                }
+                if (known.add(task)) {
+                    taskList.add(task);
+                    result.taskImported();
+                } else {
+                    result.duplicateSkipped();
+                }
+            }
+            isComplete = true;
+        } finally {
+            if (!isComplete) {
+                while (taskList.size() > sizeBefore) {
+                    taskList.delete(taskList.size() - 1);
+                }
+            }
+            taskList.endBatch();
+        }
+        return result;
+    }
+
+    static String[] toRecord(Task task) {
+        String[] record = new String[FIELDS.length];
+        record[DONE] = String.valueOf(task.isDone());
+        record[DESCRIPTION] = task.getDescription();
+        if (task instanceof RecurringTask) {
+            RecurringTask recurringTask = (RecurringTask) task;
+            record[TYPE] = "recurring";
+            record[DATE] = recurringTask.getStart().toString();
+            record[EVERY] = recurringTask.getFrequency().toString();
+            record[OCCURRENCES_DONE] = String.valueOf(recurringTask.getDoneCount());
+        } else if (task instanceof DeadLine) {
+            record[TYPE] = "deadline";
+            record[DATE] = task.getDueDate().toString();
+        } else if (task instanceof Event) {
+            record[TYPE] = "event";
+            record[DATE] = ((Event) task).getStart();
+        } else {
+            record[TYPE] = "todo";
+        }
+        return record;
+    }
+
+    /**
+     * Creates the task described by a record.
+     * @throws RuntimeException if a field is missing or not written correctly
+     */
+    static Task fromRecord(String[] record) {
+        String description = savable(required(record, DESCRIPTION), "description");
+        if (description.isBlank()) {
+            throw new IllegalArgumentException("The description cannot be empty.");
+        }
+        String isDone = Boolean.parseBoolean(record[DONE]) ? "X" : " ";
+        switch (required(record, TYPE).toLowerCase(Locale.ROOT)) {
+        case "todo":
+            return new Todo(description, isDone);
+        case "deadline":
+            // the task file splits a deadline or an event at the first bracket
+            return new DeadLine(without(description, "("), required(record, DATE), isDone);
+        case "event":
+            return new Event(without(description, "("), without(savable(required(record, DATE), "date"), ")"),
+                    isDone);
+        case "recurring":
+            RecurringTask.Frequency frequency = RecurringTask.Frequency.valueOf(
+                    required(record, EVERY).trim().toUpperCase(Locale.ROOT));
+            int doneCount = record[OCCURRENCES_DONE] == null ? 0 : Integer.parseInt(record[OCCURRENCES_DONE]);
+            if (doneCount < 0) {
+                throw new IllegalArgumentException("The number of occurrences done cannot be negative.");
+            }
+            return new RecurringTask(without(description, " (every "), frequency,
+                    LocalDate.parse(required(record, DATE).trim()), doneCount);
+        default:
+            throw new IllegalArgumentException("'" + record[TYPE] + "' is not a type of task.");
+        }
+    }
+
+    /**
+     * Checks that text can be written on a single line of the task file.
+     * @throws IllegalArgumentException if the text contains a line break or another control character
+     */
+    private static String savable(String text, String field) {
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isISOControl(text.charAt(i))) {
+                throw new IllegalArgumentException("The " + field
+                        + " cannot contain line breaks or control characters.");
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Checks that text does not contain something the task file decoder splits on.
+     * @throws IllegalArgumentException if the text contains the separator
+     */
+    private static String without(String text, String separator) {
+        if (text.contains(separator)) {
+            throw new IllegalArgumentException("'" + separator.trim() + "' cannot be used in '" + text + "'.");
+        }
+        return text;
+    }
+
+    private static String required(String[] record, int field) {
+        if (record[field] == null) {
+            throw new IllegalArgumentException("The " + FIELDS[field] + " is missing.");
+        }
+        return record[field];
+    }
+}
@@ -0,0 +1,154 @@
+package duke.task;
+
+/**
+ * Compact record of one change made to a {@link TaskList}, holding just enough to reverse it and
+ * apply it again. Each change costs O(1) to undo or redo, apart from shifting the tasks after the
+ * position of a task that is put back or taken out again.
+ *
+ * @author Benjamin Lui
+ */
+public abstract class Change {
+    // rough size of a change and the reference it holds, for bounding the undo log
+    private static final long CHANGE_BYTES = 32;
+    // rough size of a task that is only kept alive by the change, apart from its description
+    private static final long TASK_BYTES = 48;
+
+    private Change() { }
+
+    /**
+     * Returns the change made by adding a task.
+     * @param index the position the task was added at
+     * @param task the task that was added
+     */
+    public static Change added(int index, Task task) {
+        return new Added(index, task);
+    }
+
+    /**
+     * Returns the change made by removing a task.
+     * @param index the position the task was removed from
+     * @param task the task that was removed
+     */
+    public static Change removed(int index, Task task) {
+        return new Removed(index, task);
+    }
+
+    /**
+     * Returns the change made by marking a task as done.
+     * @param task the task that was marked as done
+     */
+    public static Change done(Task task) {
+        return new Done(task);
+    }
+
+    /**
+     * Returns the change made by doing the earliest open occurrence of a recurring task.
+     * @param task the recurring task
+     */
+    public static Change occurrenceDone(RecurringTask task) {
+        return new OccurrenceDone(task);
+    }
+
+    abstract void undo(TaskList taskList);
+
+    abstract void redo(TaskList taskList);
+
+    abstract long estimateBytes();
+
+    private static class Added extends Change {
+        private final int index;
+        private final Task task;
+
+        Added(int index, Task task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void undo(TaskList taskList) {
+            taskList.delete(index);
+        }
+
+        @Override
+        void redo(TaskList taskList) {
+            taskList.add(index, task);
+        }
+
+        @Override
+        long estimateBytes() {
+            return CHANGE_BYTES;
+        }
+    }
+
+    private static class Removed extends Change {
+        private final int index;
+        private final Task task;
+
+        Removed(int index, Task task) {
+            this.index = index;
+            this.task = task;
+        }
+
+        @Override
+        void undo(TaskList taskList) {
+            taskList.add(index, task);
+        }
+
+        @Override
+        void redo(TaskList taskList) {
+            taskList.delete(index);
+        }
+
+        @Override
+        long estimateBytes() {
+            // the removed task is only kept alive by the change
+            return CHANGE_BYTES + TASK_BYTES + 2L * task.description.length();
+        }
+    }
+
+    private static class Done extends Change {
+        private final Task task;
+
+        Done(Task task) {
+            this.task = task;
+        }
+
+        @Override
+        void undo(TaskList taskList) {
+            taskList.markAsNotDone(task);
+        }
+
+        @Override
+        void redo(TaskList taskList) {
+            taskList.markAsDone(task);
+        }
+
+        @Override
+        long estimateBytes() {
+            return CHANGE_BYTES;
+        }
+    }
+
+    private static class OccurrenceDone extends Change {
+        private final RecurringTask task;
+
+        OccurrenceDone(RecurringTask task) {
+            this.task = task;
+        }
+
+        @Override
+        void undo(TaskList taskList) {
+            taskList.reopenOccurrence(task);
+        }
+
+        @Override
+        void redo(TaskList taskList) {
+            taskList.completeOccurrence(task);
+        }
+
+        @Override
+        long estimateBytes() {
+            return CHANGE_BYTES;
+        }
+    }
+}
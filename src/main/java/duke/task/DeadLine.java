@@ -34,6 +34,11 @@ public class DeadLine extends Task {
         this.by = LocalDate.parse(by.trim());
     }
 
+    @Override
+    public LocalDate getDueDate() {
+        return by;
+    }
+
     @Override
     public String toString() {
         String formattedDate = this.by.format(DateTimeFormatter.ofPattern("MMM dd yyyy"));
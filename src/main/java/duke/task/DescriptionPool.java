@@ -0,0 +1,48 @@
+package duke.task;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Pool of canonical task descriptions, so that tasks with the same description share one string
+ * however they were created. Descriptions are only held weakly, so a description is dropped from
+ * the pool once no task uses it. The pool is split into stripes that are locked separately,
+ * so that tasks can be decoded and created on several threads at once.
+ *
+ * @author Benjamin Lui
+ */
+public class DescriptionPool {
+    private static final int STRIPES = 16;
+
+    @SuppressWarnings("unchecked")
+    private static final Map<String, WeakReference<String>>[] pools =
+            (Map<String, WeakReference<String>>[]) new Map<?, ?>[STRIPES];
+
+    static {
+        for (int i = 0; i < STRIPES; i++) {
+            pools[i] = new WeakHashMap<String, WeakReference<String>>();
+        }
+    }
+
+    private DescriptionPool() { }
+
+    /**
+     * Returns the canonical copy of a description, adding it to the pool if it is not there yet.
+     * @param description the description of a task
+     * @return a string equal to the description, the same one for every equal description
+     */
+    public static String intern(String description) {
+        int hash = description.hashCode();
+        Map<String, WeakReference<String>> pool = pools[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+        synchronized (pool) {
+            WeakReference<String> reference = pool.get(description);
+            String canonical = reference == null ? null : reference.get();
+            if (canonical == null) {
+                canonical = description;
+                pool.put(canonical, new WeakReference<String>(canonical));
+            }
+            return canonical;
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package duke.task;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 /**
  * Event class for implementing tasks that are events.
  *
@@ -8,7 +11,11 @@ package duke.task;
 
 public class Event extends Task {
 
+    private static final int ISO_DATE_LENGTH = 10;
+
     protected String start;
+    // when the event starts, if it was given as a yyyy-mm-dd date
+    protected LocalDate date;
 
     /**
      * Constructor of the event class.
@@ -18,6 +25,7 @@ public class Event extends Task {
     public Event(String description, String start) {
         super(description);
         this.start = start;
+        this.date = parseDate(start);
     }
 
     /**
@@ -29,6 +37,29 @@ public class Event extends Task {
     public Event(String description, String start, String isDone) {
         super(description, isDone);
         this.start = start;
+        this.date = parseDate(start);
+    }
+
+    private static LocalDate parseDate(String start) {
+        String trimmed = start.trim();
+        if (trimmed.length() != ISO_DATE_LENGTH) {
+            // most events are given a free-form time, which is cheaper to rule out than to fail to parse
+            return null;
+        }
+        try {
+            return LocalDate.parse(trimmed);
+        } catch (DateTimeParseException dtpe) {
+            return null;
+        }
+    }
+
+    public String getStart() {
+        return start;
+    }
+
+    @Override
+    public LocalDate getDueDate() {
+        return date;
     }
 
     @Override
@@ -0,0 +1,157 @@
+package duke.task;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RecurringTask class for deadlines that repeat every week or every month.
+ * Only the rule is stored: the first due date, how often it repeats, and how many occurrences have been done.
+ * Occurrences are worked out when they are needed, and are always done in order, so the completed ones are
+ * kept as a count rather than as separate tasks.
+ *
+ * @author Benjamin Lui
+ */
+public class RecurringTask extends Task {
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("MMM dd yyyy");
+
+    /**
+     * How often a recurring task repeats.
+     */
+    public enum Frequency {
+        WEEK, MONTH;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    protected final Frequency frequency;
+    protected final LocalDate start;
+    protected int doneCount;
+
+    /**
+     * Constructor of the RecurringTask class.
+     * @param description the name of the task
+     * @param frequency how often the task is due
+     * @param start the first date the task is due on, which later occurrences are counted from
+     */
+    public RecurringTask(String description, Frequency frequency, LocalDate start) {
+        this(description, frequency, start, 0);
+    }
+
+    /**
+     * Constructor of the RecurringTask class.
+     * @param description the name of the task
+     * @param frequency how often the task is due
+     * @param start the first date the task is due on, which later occurrences are counted from
+     * @param doneCount the number of occurrences, from the first, that have been done
+     */
+    public RecurringTask(String description, Frequency frequency, LocalDate start, int doneCount) {
+        super(description);
+        this.frequency = frequency;
+        this.start = start;
+        this.doneCount = doneCount;
+    }
+
+    /**
+     * Returns the date of an occurrence. Monthly occurrences fall on the last day of shorter months.
+     * @param n the number of the occurrence, counting the first as 0
+     * @return the date the occurrence is due on
+     */
+    public LocalDate occurrence(int n) {
+        return frequency == Frequency.WEEK ? start.plusWeeks(n) : start.plusMonths(n);
+    }
+
+    /**
+     * Returns the occurrences due within a range of dates, as deadlines that are not part of any list.
+     * @param from the earliest due date included
+     * @param to the latest due date included
+     * @return the occurrences, in order, marked as done if they have been done
+     */
+    public List<DeadLine> occurrencesBetween(LocalDate from, LocalDate to) {
+        List<DeadLine> occurrences = new ArrayList<DeadLine>();
+        int n = firstOccurrenceFrom(from);
+        for (LocalDate date = occurrence(n); !date.isAfter(to); date = occurrence(++n)) {
+            occurrences.add(new DeadLine(description, date.toString(), n < doneCount ? "X" : " "));
+        }
+        return occurrences;
+    }
+
+    private int firstOccurrenceFrom(LocalDate from) {
+        if (!from.isAfter(start)) {
+            return 0;
+        }
+        long estimate = frequency == Frequency.WEEK
+                ? ChronoUnit.WEEKS.between(start, from)
+                : ChronoUnit.MONTHS.between(start, from);
+        int n = (int) Math.max(estimate - 1, 0);
+        while (occurrence(n).isBefore(from)) {
+            n++;
+        }
+        return n;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDate getStart() {
+        return start;
+    }
+
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    /**
+     * Returns the date of the earliest occurrence that has not been done.
+     * @return the date the task is next due on
+     */
+    @Override
+    public LocalDate getDueDate() {
+        return occurrence(doneCount);
+    }
+
+    /**
+     * Marks the earliest occurrence that has not been done as done.
+     */
+    void completeOccurrence() {
+        doneCount++;
+        version++;
+    }
+
+    /**
+     * Marks the latest occurrence that has been done as not done again.
+     */
+    void reopenOccurrence() {
+        if (doneCount > 0) {
+            doneCount--;
+            version++;
+        }
+    }
+
+    @Override
+    public String toString() {
+        String done = doneCount > 0 ? ", " + doneCount + " done" : "";
+        return "[R]" + super.toString() + " (every " + frequency + " from: " + start.format(DATE_FORMAT) + done + ")";
+    }
+
+    /**
+     * Decodes a recurring task from the details that follow its description when it is saved.
+     * @param description the name of the task
+     * @param rule the text inside the brackets, such as {@code every month from: Jan 05 2026, 3 done}
+     * @return the decoded task
+     */
+    public static RecurringTask decode(String description, String rule) {
+        String[] parts = rule.split(",");
+        String[] repeat = parts[0].trim().split(" from: ");
+        Frequency frequency = Frequency.valueOf(repeat[0].substring("every ".length()).trim().toUpperCase());
+        LocalDate start = LocalDate.parse(repeat[1].trim(), DATE_FORMAT);
+        int doneCount = parts.length > 1 ? Integer.parseInt(parts[1].trim().split(" ")[0]) : 0;
+        return new RecurringTask(description, frequency, start, doneCount);
+    }
+}
@@ -0,0 +1,436 @@
+package duke.task;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative ints in the style of a roaring bitmap. The ints are split by their high 16 bits
+ * into chunks, and each chunk is stored as a sorted array while it holds up to 4096 values, or as a bitmap
+ * of 65536 bits once it holds more. Sparse and dense sets are both kept small, and intersections, unions and
+ * differences work a chunk at a time instead of a value at a time.
+ *
+ * @author Benjamin Lui
+ */
+public class RoaringBitmap {
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1 << 10;
+
+    // high 16 bits of the values in each chunk, in increasing order
+    private char[] keys = new char[0];
+    private Container[] containers = new Container[0];
+    private int chunks = 0;
+
+    /**
+     * Adds a value to the set.
+     * @param value a non-negative int
+     */
+    public void add(int value) {
+        char key = (char) (value >>> 16);
+        int i = indexOf(key);
+        if (i >= 0) {
+            containers[i] = containers[i].add((char) value);
+            return;
+        }
+        insertChunk(-i - 1, key, new ArrayContainer().add((char) value));
+    }
+
+    /**
+     * Removes a value from the set, if it is there.
+     * @param value a non-negative int
+     */
+    public void remove(int value) {
+        int i = indexOf((char) (value >>> 16));
+        if (i < 0) {
+            return;
+        }
+        containers[i] = containers[i].remove((char) value);
+        if (containers[i].cardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, chunks - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, chunks - i - 1);
+            chunks--;
+            containers[chunks] = null;
+        }
+    }
+
+    /**
+     * Returns whether a value is in the set.
+     * @param value a non-negative int
+     * @return true if the value was added and not removed since
+     */
+    public boolean contains(int value) {
+        int i = indexOf((char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    /**
+     * Returns the number of values in the set.
+     * @return the number of values
+     */
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < chunks; i++) {
+            total += containers[i].cardinality();
+        }
+        return total;
+    }
+
+    /**
+     * Hands every value in the set to the consumer in increasing order.
+     * @param consumer receives each value
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < chunks; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /**
+     * Returns the values in both sets.
+     * @param first a set
+     * @param second another set
+     * @return a new set of the values in both
+     */
+    public static RoaringBitmap and(RoaringBitmap first, RoaringBitmap second) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.chunks && j < second.chunks) {
+            if (first.keys[i] < second.keys[j]) {
+                i++;
+            } else if (first.keys[i] > second.keys[j]) {
+                j++;
+            } else {
+                result.appendChunk(first.keys[i], first.containers[i].and(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in either set.
+     * @param first a set
+     * @param second another set
+     * @return a new set of the values in either
+     */
+    public static RoaringBitmap or(RoaringBitmap first, RoaringBitmap second) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < first.chunks || j < second.chunks) {
+            if (j == second.chunks || (i < first.chunks && first.keys[i] < second.keys[j])) {
+                result.appendChunk(first.keys[i], first.containers[i].copy());
+                i++;
+            } else if (i == first.chunks || first.keys[i] > second.keys[j]) {
+                result.appendChunk(second.keys[j], second.containers[j].copy());
+                j++;
+            } else {
+                result.appendChunk(first.keys[i], first.containers[i].or(second.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values in the first set that are not in the second.
+     * @param first the set values are taken from
+     * @param second the set of values left out
+     * @return a new set of the values only in the first
+     */
+    public static RoaringBitmap andNot(RoaringBitmap first, RoaringBitmap second) {
+        RoaringBitmap result = new RoaringBitmap();
+        int j = 0;
+        for (int i = 0; i < first.chunks; i++) {
+            while (j < second.chunks && second.keys[j] < first.keys[i]) {
+                j++;
+            }
+            boolean isShared = j < second.chunks && second.keys[j] == first.keys[i];
+            Container difference = isShared
+                    ? first.containers[i].andNot(second.containers[j])
+                    : first.containers[i].copy();
+            result.appendChunk(first.keys[i], difference);
+        }
+        return result;
+    }
+
+    private int indexOf(char key) {
+        return Arrays.binarySearch(keys, 0, chunks, key);
+    }
+
+    private void insertChunk(int i, char key, Container container) {
+        if (chunks == keys.length) {
+            int capacity = Math.max(4, chunks * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, i, keys, i + 1, chunks - i);
+        System.arraycopy(containers, i, containers, i + 1, chunks - i);
+        keys[i] = key;
+        containers[i] = container;
+        chunks++;
+    }
+
+    private void appendChunk(char key, Container container) {
+        if (container.cardinality() > 0) {
+            insertChunk(chunks, key, container);
+        }
+    }
+
+    /**
+     * The values in one chunk, stored by their low 16 bits.
+     */
+    private abstract static class Container {
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract boolean contains(char value);
+
+        abstract int cardinality();
+
+        abstract void forEach(int high, IntConsumer consumer);
+
+        abstract Container copy();
+
+        abstract BitmapContainer toBitmap();
+
+        Container and(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, true);
+            }
+            if (other instanceof ArrayContainer) {
+                return ((ArrayContainer) other).filter(this, true);
+            }
+            return ((BitmapContainer) this).combine((BitmapContainer) other, Operation.AND);
+        }
+
+        Container or(Container other) {
+            if (this instanceof ArrayContainer && other instanceof ArrayContainer) {
+                return ((ArrayContainer) this).union((ArrayContainer) other);
+            }
+            return toBitmap().combine(other.toBitmap(), Operation.OR);
+        }
+
+        Container andNot(Container other) {
+            if (this instanceof ArrayContainer) {
+                return ((ArrayContainer) this).filter(other, false);
+            }
+            return ((BitmapContainer) this).combine(other.toBitmap(), Operation.AND_NOT);
+        }
+    }
+
+    private enum Operation {
+        AND, OR, AND_NOT
+    }
+
+    /**
+     * Chunk stored as a sorted array of up to 4096 values.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer() {
+            this(new char[4], 0);
+        }
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                return toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < cardinality; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+
+        /**
+         * Keeps the values that are, or are not, in the other chunk.
+         */
+        Container filter(Container other, boolean isKeepingShared) {
+            char[] kept = new char[Math.max(cardinality, 1)];
+            int count = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == isKeepingShared) {
+                    kept[count++] = values[i];
+                }
+            }
+            return new ArrayContainer(kept, count);
+        }
+
+        Container union(ArrayContainer other) {
+            if (cardinality + other.cardinality > ARRAY_LIMIT) {
+                return toBitmap().combine(other.toBitmap(), Operation.OR);
+            }
+            char[] merged = new char[Math.max(cardinality + other.cardinality, 1)];
+            int i = 0;
+            int j = 0;
+            int count = 0;
+            while (i < cardinality || j < other.cardinality) {
+                if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    merged[count++] = values[i++];
+                } else if (i == cardinality || values[i] > other.values[j]) {
+                    merged[count++] = other.values[j++];
+                } else {
+                    merged[count++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(merged, count);
+        }
+    }
+
+    /**
+     * Chunk stored as a bitmap of 65536 bits, used once it holds more than 4096 values.
+     */
+    private static class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer() {
+            this(new long[BITMAP_WORDS], 0);
+        }
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] |= 1L << value;
+            if (before != words[value >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] &= ~(1L << value);
+            if (before != words[value >>> 6]) {
+                cardinality--;
+            }
+            return cardinality <= ARRAY_LIMIT ? toArray() : this;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        void forEach(int high, IntConsumer consumer) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    consumer.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        BitmapContainer toBitmap() {
+            return this;
+        }
+
+        Container combine(BitmapContainer other, Operation operation) {
+            long[] combined = new long[BITMAP_WORDS];
+            int count = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                switch (operation) {
+                case AND:
+                    combined[w] = words[w] & other.words[w];
+                    break;
+                case OR:
+                    combined[w] = words[w] | other.words[w];
+                    break;
+                default:
+                    combined[w] = words[w] & ~other.words[w];
+                    break;
+                }
+                count += Long.bitCount(combined[w]);
+            }
+            BitmapContainer result = new BitmapContainer(combined, count);
+            return count <= ARRAY_LIMIT ? result.toArray() : result;
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[Math.max(cardinality, 1)];
+            int[] count = {0};
+            forEach(0, value -> values[count[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
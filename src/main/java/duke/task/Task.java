@@ -1,4 +1,11 @@
 package duke.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
 /**
  * Task class to represent the tasks in the list.
  * It supports (i) getting status icon
@@ -9,6 +16,10 @@ package duke.task;
 public class Task {
     protected String description;
     protected boolean isDone;
+    // counts the changes made to the task, so that anything cached from it can tell when it is stale
+    protected int version = 0;
+    // tags written in the description, found the first time they are asked for
+    private List<String> tags;
 
     /**
      * Constructor for the Task class,
@@ -16,7 +27,7 @@ public class Task {
      * @param description the name of the task
      */
     public Task(String description) {
-        this.description = description.trim();
+        this.description = DescriptionPool.intern(description.trim());
         this.isDone = false;
     }
 
@@ -26,7 +37,7 @@ public class Task {
      * @param isDone whether the task is done, based on its status icon
      */
     public Task(String description, String isDone) {
-        this.description = description.trim();
+        this.description = DescriptionPool.intern(description.trim());
         if (isDone.equals("X")) {
             this.isDone = true;
         } else {
@@ -42,11 +53,102 @@ public class Task {
         return (isDone ? "X" : " ");
     }
 
+    /**
+     * Returns whether the task is done.
+     * @return true if and only if the task has been marked as done
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the tags written in the description of the task, such as {@code #work}.
+     * @return the lowercase tags without the '#', in the order they are written
+     */
+    public List<String> getTags() {
+        if (tags == null) {
+            tags = tagsOf(description);
+        }
+        return tags;
+    }
+
+    /**
+     * Returns whether the task is tagged with a tag.
+     * @param tag a lowercase tag without the '#'
+     * @return true if the description contains the tag
+     */
+    public boolean hasTag(String tag) {
+        return getTags().contains(tag);
+    }
+
+    /**
+     * Finds the tags in a piece of text. A tag is a '#' at the start of a word followed by letters,
+     * digits, '-' or '_'.
+     * @param text the text to be searched
+     * @return the lowercase tags without the '#', each listed once
+     */
+    public static List<String> tagsOf(String text) {
+        List<String> found = null;
+        int i = text.indexOf('#');
+        while (i >= 0) {
+            int end = i + 1;
+            while (end < text.length() && isTagChar(text.charAt(end))) {
+                end++;
+            }
+            boolean isStartOfWord = i == 0 || Character.isWhitespace(text.charAt(i - 1));
+            if (isStartOfWord && end > i + 1) {
+                String tag = text.substring(i + 1, end).toLowerCase(Locale.ROOT);
+                if (found == null) {
+                    found = new ArrayList<String>();
+                }
+                if (!found.contains(tag)) {
+                    found.add(tag);
+                }
+            }
+            i = text.indexOf('#', end);
+        }
+        return found == null ? Collections.<String>emptyList() : Collections.unmodifiableList(found);
+    }
+
+    private static boolean isTagChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '-' || c == '_';
+    }
+
+    /**
+     * Returns the date the task is due on, if it has one.
+     * @return the date the task is due, or null if the task has no date
+     */
+    public LocalDate getDueDate() {
+        return null;
+    }
+
     /**
      * Sets the status of the current task to done.
      */
     public void markAsDone() {
         this.isDone = true;
+        this.version++;
+    }
+
+    /**
+     * Sets the status of the current task back to not done.
+     */
+    public void markAsNotDone() {
+        this.isDone = false;
+        this.version++;
+    }
+
+    /**
+     * Returns the number of changes made to the task since it was created. Whatever is worked out from the task
+     * can be kept along with the version it was worked out from, and is stale once the version moves on.
+     * @return the version of the task
+     */
+    public int getVersion() {
+        return version;
     }
 
     @Override
@@ -59,9 +161,15 @@ public class Task {
     public boolean equals(Object object) {
         if (object instanceof Task) {
             Task task = (Task) object;
+            // descriptions are interned, so equal ones are usually the same string
             return task.getClass() == this.getClass()
-                    && task.description.equals(this.description);
+                    && (task.description == this.description || task.description.equals(this.description));
         }
         return false;
     }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + description.hashCode();
+    }
 }
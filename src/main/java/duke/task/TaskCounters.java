@@ -0,0 +1,142 @@
+package duke.task;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Counts of the tasks in a {@link TaskList} by type, by whether they are done, and by whether they are overdue,
+ * kept up to date as the list changes so that reading them never goes through the list.
+ * The overdue count moves forward with the date it is asked for: the open tasks due on the days
+ * that have passed since it was last asked are added to it, so it costs O(1) per day that passes.
+ *
+ * @author Benjamin Lui
+ */
+public class TaskCounters implements TaskListListener {
+    private final Map<Class<? extends Task>, int[]> byType = new HashMap<Class<? extends Task>, int[]>();
+    // the number of open tasks due on each date
+    private final NavigableMap<LocalDate, int[]> openByDueDate = new TreeMap<LocalDate, int[]>();
+    private int total = 0;
+    private int done = 0;
+    // the open tasks due before overdueBefore
+    private int overdue = 0;
+    private LocalDate overdueBefore = LocalDate.MIN;
+
+    /**
+     * Constructor for the counters, which counts the tasks already in the list.
+     * @param tasks the tasks currently in the list
+     */
+    TaskCounters(List<Task> tasks) {
+        for (Task task : tasks) {
+            taskAdded(task);
+        }
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getDone() {
+        return done;
+    }
+
+    public int getOpen() {
+        return total - done;
+    }
+
+    /**
+     * Returns the number of tasks of a type.
+     * @param type the type of task, such as {@code DeadLine.class}
+     * @return the number of tasks of exactly that type
+     */
+    public int getCount(Class<? extends Task> type) {
+        int[] count = byType.get(type);
+        return count == null ? 0 : count[0];
+    }
+
+    /**
+     * Returns the number of tasks that are not done and were due before the given date.
+     * @param today the current date
+     * @return the number of overdue tasks
+     */
+    public int getOverdue(LocalDate today) {
+        if (today.isBefore(overdueBefore)) {
+            // the clock went back, so the count starts again from the start
+            overdue = 0;
+            overdueBefore = LocalDate.MIN;
+        }
+        for (int[] count : openByDueDate.subMap(overdueBefore, true, today, false).values()) {
+            overdue += count[0];
+        }
+        overdueBefore = today;
+        return overdue;
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        byType.computeIfAbsent(task.getClass(), type -> new int[1])[0]++;
+        total++;
+        if (task.isDone()) {
+            done++;
+        } else {
+            countOpen(task.getDueDate(), 1);
+        }
+    }
+
+    @Override
+    public void taskDone(Task task) {
+        done++;
+        countOpen(task.getDueDate(), -1);
+    }
+
+    @Override
+    public void taskReopened(Task task) {
+        done--;
+        countOpen(task.getDueDate(), 1);
+    }
+
+    @Override
+    public void taskRescheduled(Task task, LocalDate previousDueDate) {
+        if (!task.isDone()) {
+            countOpen(previousDueDate, -1);
+            countOpen(task.getDueDate(), 1);
+        }
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        byType.get(task.getClass())[0]--;
+        total--;
+        if (task.isDone()) {
+            done--;
+        } else {
+            countOpen(task.getDueDate(), -1);
+        }
+    }
+
+    @Override
+    public void tasksCleared() {
+        byType.clear();
+        openByDueDate.clear();
+        total = 0;
+        done = 0;
+        overdue = 0;
+    }
+
+    private void countOpen(LocalDate dueDate, int change) {
+        if (dueDate == null) {
+            return;
+        }
+        int[] count = openByDueDate.computeIfAbsent(dueDate, date -> new int[1]);
+        count[0] += change;
+        if (count[0] == 0) {
+            openByDueDate.remove(dueDate);
+        }
+        if (dueDate.isBefore(overdueBefore)) {
+            overdue += change;
+        }
+    }
+}
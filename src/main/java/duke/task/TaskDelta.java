@@ -0,0 +1,80 @@
+package duke.task;
+
+/**
+ * Typed record of one change made to a {@link TaskList}, published to batch listeners and streams
+ * together with the other changes made by the same command. The state of the task is captured when the change
+ * is made, so a consumer on another thread sees what the change did rather than what the task has become since.
+ *
+ * @author Benjamin Lui
+ */
+public class TaskDelta {
+    /**
+     * The kinds of change that can be made to a list of tasks.
+     */
+    public enum Kind {
+        /** A task was added at a position. */
+        ADDED,
+        /** A task in the list was marked as done or not done. */
+        UPDATED,
+        /** A task was removed from a position. */
+        REMOVED,
+        /** Every task was removed at once. */
+        CLEARED
+    }
+
+    private final Kind kind;
+    private final Task task;
+    private final int index;
+    private final boolean isDone;
+    private final String record;
+
+    TaskDelta(Kind kind, Task task, int index) {
+        this.kind = kind;
+        this.task = task;
+        this.index = index;
+        this.isDone = task != null && task.isDone();
+        this.record = task != null ? task.toString() : null;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the task that was changed. The task may have changed again since, and is only safe to read
+     * on the thread that changes the list; use {@link #isDone()} and {@link #getRecord()} elsewhere.
+     * @return the task, or null if the list was cleared
+     */
+    public Task getTask() {
+        return task;
+    }
+
+    /**
+     * Returns the position the task was added at or removed from, at the time of the change.
+     * @return the position, or -1 if the task was updated or the list was cleared
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns whether the task was done right after the change.
+     * @return true if the task was done at the time of the change
+     */
+    public boolean isDone() {
+        return isDone;
+    }
+
+    /**
+     * Returns the task as it would have been saved right after the change, such as {@code [T][X] read books}.
+     * @return the saved form of the task at the time of the change, or null if the list was cleared
+     */
+    public String getRecord() {
+        return record;
+    }
+
+    @Override
+    public String toString() {
+        return kind + (index >= 0 ? " " + index : "") + (record != null ? " " + record : "");
+    }
+}
@@ -0,0 +1,80 @@
+package duke.task;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free ring buffer carrying the batches of changes made to a {@link TaskList} to one consumer
+ * on another thread. The list publishes on the thread running the commands and never waits for the
+ * consumer: if the buffer is full, the batch is dropped and the stream is marked as overflowed,
+ * after which the consumer has to rebuild whatever it derives from the list.
+ * Only the one thread running the commands may publish, and only one thread may consume.
+ *
+ * @author Benjamin Lui
+ */
+public class TaskDeltaStream {
+    private final Object[] batches;
+    private final int mask;
+    // next slot to be read, only written by the consumer
+    private final AtomicLong head = new AtomicLong();
+    // next slot to be written, only written by the list
+    private final AtomicLong tail = new AtomicLong();
+    private volatile boolean isOverflowed = false;
+
+    /**
+     * Constructor for a stream holding up to the given number of batches, rounded up to a power of two.
+     * @param capacity the number of batches the consumer may fall behind by
+     */
+    TaskDeltaStream(int capacity) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.batches = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publishes a batch, dropping it if the consumer has fallen too far behind.
+     * @param batch the changes made by one command
+     */
+    void offer(List<TaskDelta> batch) {
+        long position = tail.get();
+        if (position - head.get() == batches.length) {
+            isOverflowed = true;
+            return;
+        }
+        batches[(int) (position & mask)] = batch;
+        tail.lazySet(position + 1);
+    }
+
+    /**
+     * Takes the oldest batch that has not been consumed.
+     * @return the changes made by one command, or null if there are none waiting
+     */
+    @SuppressWarnings("unchecked")
+    public List<TaskDelta> poll() {
+        long position = head.get();
+        if (position == tail.get()) {
+            return null;
+        }
+        int slot = (int) (position & mask);
+        List<TaskDelta> batch = (List<TaskDelta>) batches[slot];
+        batches[slot] = null;
+        head.lazySet(position + 1);
+        return batch;
+    }
+
+    /**
+     * Returns whether a batch has been dropped since the stream was opened or last reset.
+     * @return true if the consumer has missed changes
+     */
+    public boolean isOverflowed() {
+        return isOverflowed;
+    }
+
+    /**
+     * Records that the consumer has caught up with the list again after an overflow.
+     * Should only be called after the batches waiting in the stream have been drained.
+     */
+    public void resetOverflow() {
+        isOverflowed = false;
+    }
+}
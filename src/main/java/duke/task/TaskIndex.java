@@ -0,0 +1,273 @@
+package duke.task;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import duke.metrics.IndexBuildEvent;
+
+/**
+ * Indexes of the tasks in a {@link TaskList} by the words in their descriptions, by their due dates and by
+ * their tags, kept up to date as the list changes. Each task is also given an order key that grows along the
+ * list, so that tasks found through an index can be put back in the order of the list. Keys are spread out,
+ * so a task put back between two others takes a key between theirs, and the keys are only handed out again
+ * when two neighbours run out of room. The tasks with each tag are kept as a {@link RoaringBitmap} of their
+ * IDs, so that tags can be combined without testing every task. The IDs of removed tasks are given to the next
+ * tasks added, so the IDs never run higher than the most tasks the list has held at once.
+ *
+ * @author Benjamin Lui
+ */
+public class TaskIndex implements TaskListListener {
+    private static final long ORDER_KEY_GAP = 1L << 20;
+
+    private final Map<String, Set<Task>> byWord = new HashMap<String, Set<Task>>();
+    private final NavigableMap<LocalDate, Set<Task>> byDueDate = new TreeMap<LocalDate, Set<Task>>();
+    private final Map<String, RoaringBitmap> byTag = new HashMap<String, RoaringBitmap>();
+    private final Map<Task, Integer> ids = new IdentityHashMap<Task, Integer>();
+    // tasks by their ID, with null for the IDs of removed tasks until they are given out again
+    private final List<Task> tasksById = new ArrayList<Task>();
+    private int[] freeIds = new int[16];
+    private int freeIdCount = 0;
+    private RoaringBitmap allTasks = new RoaringBitmap();
+    private final Map<Task, Long> orderKeys = new IdentityHashMap<Task, Long>();
+    private long lastOrderKey = 0;
+
+    /**
+     * Constructor for the index, which indexes the tasks already in the list.
+     * @param tasks the tasks currently in the list, in order
+     */
+    TaskIndex(List<Task> tasks) {
+        IndexBuildEvent event = new IndexBuildEvent();
+        event.begin();
+        for (Task task : tasks) {
+            taskAdded(task);
+        }
+        event.taskCount = tasks.size();
+        event.wordCount = byWord.size();
+        event.commit();
+    }
+
+    /**
+     * Splits a piece of text into the lowercase words that are indexed.
+     * @param text the text to be split
+     * @return the words in the text, in order
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<String>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isWordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (isWordChar && start < 0) {
+                start = i;
+            } else if (!isWordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Returns the tasks whose description contains the word.
+     * @param word a lowercase word
+     * @return a read-only view of the tasks with the word
+     */
+    public Set<Task> withWord(String word) {
+        Set<Task> tasks = byWord.get(word);
+        return tasks == null ? Collections.<Task>emptySet() : Collections.unmodifiableSet(tasks);
+    }
+
+    /**
+     * Returns the tasks due within a range of dates, grouped by date.
+     * @param from the earliest due date, or null for no earliest date
+     * @param isFromInclusive whether tasks due on the earliest date are included
+     * @param to the latest due date, or null for no latest date
+     * @param isToInclusive whether tasks due on the latest date are included
+     * @return a read-only view of the groups of tasks due within the range
+     */
+    public Collection<Set<Task>> dueWithin(LocalDate from, boolean isFromInclusive,
+            LocalDate to, boolean isToInclusive) {
+        NavigableMap<LocalDate, Set<Task>> range = byDueDate;
+        if (from != null) {
+            range = range.tailMap(from, isFromInclusive);
+        }
+        if (to != null) {
+            range = range.headMap(to, isToInclusive);
+        }
+        return Collections.unmodifiableCollection(range.values());
+    }
+
+    /**
+     * Returns the IDs of the tasks tagged with a tag. The bitmap belongs to the index and must not be changed.
+     * @param tag a lowercase tag without the '#'
+     * @return the IDs of the tasks with the tag
+     */
+    public RoaringBitmap withTag(String tag) {
+        RoaringBitmap tagged = byTag.get(tag);
+        return tagged == null ? new RoaringBitmap() : tagged;
+    }
+
+    /**
+     * Returns the IDs of all the tasks in the list. The bitmap belongs to the index and must not be changed.
+     * @return the IDs of every task
+     */
+    public RoaringBitmap allTasks() {
+        return allTasks;
+    }
+
+    /**
+     * Returns the tasks with the IDs in a bitmap.
+     * @param taskIds IDs given out by this index
+     * @return the tasks that are still in the list, in the order of the list
+     */
+    public List<Task> tasksOf(RoaringBitmap taskIds) {
+        List<Task> tasks = new ArrayList<Task>(taskIds.cardinality());
+        taskIds.forEach(id -> {
+            Task task = id < tasksById.size() ? tasksById.get(id) : null;
+            if (task != null) {
+                tasks.add(task);
+            }
+        });
+        tasks.sort(Comparator.comparingLong(this::sequenceOf));
+        return tasks;
+    }
+
+    /**
+     * Returns the position of a task relative to the other tasks in the list.
+     * @param task a task in the list
+     * @return a number that is larger for tasks later in the list
+     */
+    public long sequenceOf(Task task) {
+        Long orderKey = orderKeys.get(task);
+        return orderKey == null ? Long.MAX_VALUE : orderKey;
+    }
+
+    @Override
+    public void taskInserted(Task task, int index, List<Task> tasks) {
+        long before = index > 0 ? sequenceOf(tasks.get(index - 1)) : 0;
+        long after = sequenceOf(tasks.get(index + 1));
+        index(task);
+        if (after - before > 1) {
+            orderKeys.put(task, before + (after - before) / 2);
+            return;
+        }
+        // the neighbours have no room left between them, so the whole list is given new keys
+        lastOrderKey = 0;
+        for (Task listed : tasks) {
+            lastOrderKey += ORDER_KEY_GAP;
+            orderKeys.put(listed, lastOrderKey);
+        }
+    }
+
+    @Override
+    public void taskAdded(Task task) {
+        lastOrderKey += ORDER_KEY_GAP;
+        orderKeys.put(task, lastOrderKey);
+        index(task);
+    }
+
+    private void index(Task task) {
+        int id;
+        if (freeIdCount > 0) {
+            id = freeIds[--freeIdCount];
+            tasksById.set(id, task);
+        } else {
+            id = tasksById.size();
+            tasksById.add(task);
+        }
+        ids.put(task, id);
+        allTasks.add(id);
+        for (String tag : task.getTags()) {
+            byTag.computeIfAbsent(tag, key -> new RoaringBitmap()).add(id);
+        }
+        for (String word : words(task.getDescription())) {
+            byWord.computeIfAbsent(word, key -> newTaskSet()).add(task);
+        }
+        LocalDate dueDate = task.getDueDate();
+        if (dueDate != null) {
+            byDueDate.computeIfAbsent(dueDate, key -> newTaskSet()).add(task);
+        }
+    }
+
+    @Override
+    public void taskDone(Task task) { }
+
+    @Override
+    public void taskReopened(Task task) { }
+
+    @Override
+    public void taskRescheduled(Task task, LocalDate previousDueDate) {
+        if (previousDueDate != null) {
+            removeFrom(byDueDate, previousDueDate, task);
+        }
+        LocalDate dueDate = task.getDueDate();
+        if (dueDate != null) {
+            byDueDate.computeIfAbsent(dueDate, key -> newTaskSet()).add(task);
+        }
+    }
+
+    @Override
+    public void taskRemoved(Task task) {
+        orderKeys.remove(task);
+        Integer id = ids.remove(task);
+        if (id != null) {
+            tasksById.set(id, null);
+            if (freeIdCount == freeIds.length) {
+                freeIds = Arrays.copyOf(freeIds, freeIdCount * 2);
+            }
+            freeIds[freeIdCount++] = id;
+            allTasks.remove(id);
+            for (String tag : task.getTags()) {
+                RoaringBitmap tagged = byTag.get(tag);
+                if (tagged != null) {
+                    tagged.remove(id);
+                    if (tagged.cardinality() == 0) {
+                        byTag.remove(tag);
+                    }
+                }
+            }
+        }
+        for (String word : words(task.getDescription())) {
+            removeFrom(byWord, word, task);
+        }
+        LocalDate dueDate = task.getDueDate();
+        if (dueDate != null) {
+            removeFrom(byDueDate, dueDate, task);
+        }
+    }
+
+    @Override
+    public void tasksCleared() {
+        ids.clear();
+        orderKeys.clear();
+        lastOrderKey = 0;
+        tasksById.clear();
+        freeIdCount = 0;
+        allTasks = new RoaringBitmap();
+        byTag.clear();
+        byWord.clear();
+        byDueDate.clear();
+    }
+
+    private static Set<Task> newTaskSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<Task, Boolean>());
+    }
+
+    private static <K> void removeFrom(Map<K, Set<Task>> index, K key, Task task) {
+        Set<Task> tasks = index.get(key);
+        if (tasks != null && tasks.remove(task) && tasks.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
@@ -1,6 +1,14 @@
 package duke.task;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import duke.metrics.Metrics;
 /**
  * Contains the list of tasks from the text file that was saved. Various methods
  * implemented to manipulate the list of tasks.
@@ -10,12 +18,23 @@ import java.util.ArrayList;
 public class TaskList {
 
     private ArrayList<Task> listOfTasks;
+    private final List<TaskListListener> listeners = new ArrayList<TaskListListener>();
+    private final List<Consumer<List<TaskDelta>>> batchListeners = new ArrayList<Consumer<List<TaskDelta>>>();
+    private final List<TaskDeltaStream> streams = new ArrayList<TaskDeltaStream>();
+    // changes made since the current batch began, only collected while anyone is interested in them
+    private List<TaskDelta> batch = new ArrayList<TaskDelta>();
+    private int batchDepth = 0;
+    private final UndoLog undoLog = new UndoLog();
+    private TaskIndex index;
+    private final TaskCounters counters;
 
     /**
      * Constructor for the TaskList class when there is no tasks in the list.
      */
     public TaskList() {
         listOfTasks = new ArrayList<Task>();
+        counters = new TaskCounters(listOfTasks);
+        addListener(counters);
     }
 
     /**
@@ -24,6 +43,94 @@ public class TaskList {
      */
     public TaskList(ArrayList<Task> lst) {
         listOfTasks = lst;
+        counters = new TaskCounters(listOfTasks);
+        addListener(counters);
+    }
+
+    /**
+     * Adds a listener to be told about each change made to the list through its methods, as it is made.
+     * @param listener the listener to be added
+     */
+    public void addListener(TaskListListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stops telling a listener about the changes made to the list.
+     * @param listener the listener to be removed
+     */
+    public void removeListener(TaskListListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Adds a listener to be told about the changes made to the list in batches, one batch for each command.
+     * The listener is called on the thread that changed the list, once the batch ends.
+     * @param listener receives the changes made by each command, in order
+     */
+    public void addBatchListener(Consumer<List<TaskDelta>> listener) {
+        batchListeners.add(listener);
+    }
+
+    /**
+     * Stops telling a batch listener about the changes made to the list.
+     * @param listener the listener to be removed
+     */
+    public void removeBatchListener(Consumer<List<TaskDelta>> listener) {
+        batchListeners.remove(listener);
+    }
+
+    /**
+     * Opens a stream of the batches of changes made to the list, to be consumed on another thread.
+     * @param capacity the number of batches the consumer may fall behind by before the stream overflows
+     * @return the stream, which receives every batch from now on
+     */
+    public TaskDeltaStream openStream(int capacity) {
+        TaskDeltaStream stream = new TaskDeltaStream(capacity);
+        streams.add(stream);
+        return stream;
+    }
+
+    /**
+     * Stops publishing changes to a stream.
+     * @param stream the stream to be closed
+     */
+    public void closeStream(TaskDeltaStream stream) {
+        streams.remove(stream);
+    }
+
+    /**
+     * Starts collecting the changes made to the list into one batch, until the matching {@link #endBatch()}.
+     * Batches may be nested, in which case the changes are published when the outermost batch ends.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch, publishing the changes made during it if it is the outermost one.
+     */
+    public void endBatch() {
+        batchDepth--;
+        if (batchDepth == 0 && !batch.isEmpty()) {
+            List<TaskDelta> published = Collections.unmodifiableList(batch);
+            batch = new ArrayList<TaskDelta>();
+            for (Consumer<List<TaskDelta>> listener : batchListeners) {
+                listener.accept(published);
+            }
+            for (TaskDeltaStream stream : streams) {
+                stream.offer(published);
+            }
+        }
+    }
+
+    private void publish(TaskDelta.Kind kind, Task task, int index) {
+        if (batchListeners.isEmpty() && streams.isEmpty()) {
+            return;
+        }
+        beginBatch();
+        batch.add(new TaskDelta(kind, task, index));
+        endBatch();
     }
 
     /**
@@ -32,6 +139,28 @@ public class TaskList {
      */
     public void add(Task task) {
         listOfTasks.add(task);
+        for (TaskListListener listener : listeners) {
+            listener.taskAdded(task);
+        }
+        publish(TaskDelta.Kind.ADDED, task, listOfTasks.size() - 1);
+    }
+
+    /**
+     * Adds a task to the list at the given position, moving the tasks from that position back.
+     * @param index the position the task is added at
+     * @param task task to be added to the list
+     */
+    public void add(int index, Task task) {
+        listOfTasks.add(index, task);
+        boolean isAtEnd = index == listOfTasks.size() - 1;
+        for (TaskListListener listener : listeners) {
+            if (isAtEnd) {
+                listener.taskAdded(task);
+            } else {
+                listener.taskInserted(task, index, listOfTasks);
+            }
+        }
+        publish(TaskDelta.Kind.ADDED, task, index);
     }
 
     /**
@@ -40,11 +169,15 @@ public class TaskList {
      * @return true if and only if the task is in the task list
      */
     public boolean contains(Task task) {
+        int scanned = 0;
         for (Task tsk : listOfTasks) {
+            scanned++;
             if (tsk.equals(task)) {
+                Metrics.recordTasksScanned(scanned);
                 return true;
             }
         }
+        Metrics.recordTasksScanned(scanned);
         return false;
     }
 
@@ -54,9 +187,41 @@ public class TaskList {
      * @return the task that was removed
      */
     public Task delete(int taskNumber) {
-        boolean isList;
-        assert isList = listOfTasks.size() - 1 > taskNumber : "task doesn't exist";
-        return listOfTasks.remove(taskNumber);
+        assert taskNumber >= 0 && taskNumber < listOfTasks.size() : "task doesn't exist";
+        Task removed = listOfTasks.remove(taskNumber);
+        for (TaskListListener listener : listeners) {
+            listener.taskRemoved(removed);
+        }
+        publish(TaskDelta.Kind.REMOVED, removed, taskNumber);
+        return removed;
+    }
+
+    /**
+     * Removes every task in the list that matches the condition, keeping the rest in order.
+     * @param condition whether a task should be removed
+     * @return the number of tasks removed
+     */
+    public int removeIf(Predicate<Task> condition) {
+        int removed = 0;
+        int kept = 0;
+        beginBatch();
+        Iterator<Task> iterator = listOfTasks.iterator();
+        while (iterator.hasNext()) {
+            Task task = iterator.next();
+            if (condition.test(task)) {
+                iterator.remove();
+                for (TaskListListener listener : listeners) {
+                    listener.taskRemoved(task);
+                }
+                // the tasks removed before it are gone already, so it sits right after the ones kept
+                publish(TaskDelta.Kind.REMOVED, task, kept);
+                removed++;
+            } else {
+                kept++;
+            }
+        }
+        endBatch();
+        return removed;
     }
 
     /**
@@ -66,13 +231,98 @@ public class TaskList {
     public void done(int taskNumber) {
         try {
             Task currTask = listOfTasks.get(taskNumber);
-            currTask.markAsDone();
+            markAsDone(currTask);
         } catch (IndexOutOfBoundsException ioobe) {
             System.out.println("Index out of bounds");
             return;
         }
     }
 
+    /**
+     * Marks a task in the list as done.
+     * @param task the task to be marked as done
+     */
+    public void markAsDone(Task task) {
+        if (task.isDone()) {
+            return;
+        }
+        task.markAsDone();
+        for (TaskListListener listener : listeners) {
+            listener.taskDone(task);
+        }
+        publish(TaskDelta.Kind.UPDATED, task, -1);
+    }
+
+    /**
+     * Marks a done task in the list as not done again.
+     * @param task the task to be marked as not done
+     */
+    public void markAsNotDone(Task task) {
+        if (!task.isDone()) {
+            return;
+        }
+        task.markAsNotDone();
+        for (TaskListListener listener : listeners) {
+            listener.taskReopened(task);
+        }
+        publish(TaskDelta.Kind.UPDATED, task, -1);
+    }
+
+    /**
+     * Marks the earliest occurrence of a recurring task in the list that has not been done as done.
+     * @param task the recurring task
+     */
+    public void completeOccurrence(RecurringTask task) {
+        LocalDate previousDueDate = task.getDueDate();
+        task.completeOccurrence();
+        for (TaskListListener listener : listeners) {
+            listener.taskRescheduled(task, previousDueDate);
+        }
+        publish(TaskDelta.Kind.UPDATED, task, -1);
+    }
+
+    /**
+     * Marks the latest occurrence of a recurring task in the list that has been done as not done again.
+     * @param task the recurring task
+     */
+    public void reopenOccurrence(RecurringTask task) {
+        LocalDate previousDueDate = task.getDueDate();
+        task.reopenOccurrence();
+        for (TaskListListener listener : listeners) {
+            listener.taskRescheduled(task, previousDueDate);
+        }
+        publish(TaskDelta.Kind.UPDATED, task, -1);
+    }
+
+    /**
+     * Returns the log of the changes made to the list by each command, for undoing them.
+     * @return the undo log of the list
+     */
+    public UndoLog getUndoLog() {
+        return undoLog;
+    }
+
+    /**
+     * Returns the indexes of the tasks in the list, building them the first time they are needed.
+     * From then on they are updated as the list changes.
+     * @return the indexes of the list
+     */
+    public TaskIndex getIndex() {
+        if (index == null) {
+            index = new TaskIndex(listOfTasks);
+            addListener(index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the counts of the tasks in the list, which are kept up to date as the list changes.
+     * @return the counters of the list
+     */
+    public TaskCounters getCounters() {
+        return counters;
+    }
+
     /**
      * Returns the number of tasks currently in the list.
      * @return the number of tasks in the list
@@ -91,5 +341,10 @@ public class TaskList {
 
     public void clearTasks() {
         listOfTasks = new ArrayList<Task>();
+        undoLog.clear();
+        for (TaskListListener listener : listeners) {
+            listener.tasksCleared();
+        }
+        publish(TaskDelta.Kind.CLEARED, null, -1);
     }
 }
@@ -0,0 +1,60 @@
+package duke.task;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Receives the changes made to a {@link TaskList}, so that anything derived from the tasks can be
+ * kept up to date without going through the whole list again.
+ *
+ * @author Benjamin Lui
+ */
+public interface TaskListListener {
+    /**
+     * Called after a task is added to the list.
+     * @param task the task that was added
+     */
+    void taskAdded(Task task);
+
+    /**
+     * Called instead of {@link #taskAdded(Task)} after a task is added anywhere but the end of the list,
+     * such as when undo puts a deleted task back where it was.
+     * @param task the task that was added
+     * @param index the position the task was added at
+     * @param tasks the tasks in the list, including the one added
+     */
+    default void taskInserted(Task task, int index, List<Task> tasks) {
+        taskAdded(task);
+    }
+
+    /**
+     * Called after a task in the list is marked as done.
+     * @param task the task that was marked as done
+     */
+    void taskDone(Task task);
+
+    /**
+     * Called after a done task in the list is marked as not done again.
+     * @param task the task that was marked as not done
+     */
+    void taskReopened(Task task);
+
+    /**
+     * Called after the date a task in the list is due on moves, such as when an occurrence of a recurring task
+     * is done.
+     * @param task the task that is now due on another date
+     * @param previousDueDate the date the task was due on before
+     */
+    void taskRescheduled(Task task, LocalDate previousDueDate);
+
+    /**
+     * Called after a task is removed from the list.
+     * @param task the task that was removed
+     */
+    void taskRemoved(Task task);
+
+    /**
+     * Called after every task is removed from the list at once.
+     */
+    void tasksCleared();
+}
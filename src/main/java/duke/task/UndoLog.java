@@ -0,0 +1,139 @@
+package duke.task;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Bounded log of the changes made to a {@link TaskList} by each command, so that they can be undone
+ * and redone. Only the inverse of each change is kept, never a copy of the list, so undoing or redoing
+ * a command costs as much as the change it made. The oldest entries are dropped once the log holds
+ * more than its number of entries or its estimated number of bytes.
+ * A change made without going through the log must be followed by {@link #clear()}, as the positions
+ * recorded by older entries would no longer be right.
+ *
+ * @author Benjamin Lui
+ */
+public class UndoLog {
+    private static final int DEFAULT_MAX_ENTRIES = 100;
+    private static final long DEFAULT_MAX_BYTES = 1 << 20;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Deque<Entry> undoable = new ArrayDeque<Entry>();
+    private final Deque<Entry> redoable = new ArrayDeque<Entry>();
+    private long bytes = 0;
+
+    /**
+     * Constructor for an undo log that keeps the last 100 commands, up to about 1MB.
+     */
+    public UndoLog() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructor for an undo log.
+     * @param maxEntries the most commands that can be undone
+     * @param maxBytes the most memory, estimated, that the log may hold on to
+     */
+    public UndoLog(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Records the changes made by a command, which can no longer redo anything undone before it.
+     * @param description what the command did, shown when it is undone or redone
+     * @param changes the changes made by the command, in the order they were made
+     */
+    public void record(String description, List<Change> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        while (!redoable.isEmpty()) {
+            bytes -= redoable.pop().bytes;
+        }
+        Entry entry = new Entry(description, changes.toArray(new Change[0]));
+        undoable.push(entry);
+        bytes += entry.bytes;
+        while (undoable.size() > maxEntries || (bytes > maxBytes && undoable.size() > 1)) {
+            bytes -= undoable.removeLast().bytes;
+        }
+    }
+
+    /**
+     * Records a single change made by a command.
+     * @param description what the command did, shown when it is undone or redone
+     * @param change the change made by the command
+     */
+    public void record(String description, Change change) {
+        record(description, List.of(change));
+    }
+
+    /**
+     * Undoes the changes made by the last command that has not been undone.
+     * @param taskList the list of tasks the changes were made to
+     * @return what the command did, or null if there is nothing to undo
+     */
+    public String undo(TaskList taskList) {
+        Entry entry = undoable.poll();
+        if (entry == null) {
+            return null;
+        }
+        for (int i = entry.changes.length - 1; i >= 0; i--) {
+            entry.changes[i].undo(taskList);
+        }
+        redoable.push(entry);
+        return entry.description;
+    }
+
+    /**
+     * Makes the changes of the last command undone again.
+     * @param taskList the list of tasks the changes were made to
+     * @return what the command did, or null if there is nothing to redo
+     */
+    public String redo(TaskList taskList) {
+        Entry entry = redoable.poll();
+        if (entry == null) {
+            return null;
+        }
+        for (Change change : entry.changes) {
+            change.redo(taskList);
+        }
+        undoable.push(entry);
+        return entry.description;
+    }
+
+    /**
+     * Forgets every change, so that nothing can be undone or redone.
+     */
+    public void clear() {
+        undoable.clear();
+        redoable.clear();
+        bytes = 0;
+    }
+
+    /**
+     * Returns the estimated memory held on to by the log.
+     * @return the estimated number of bytes of the changes in the log
+     */
+    public long getEstimatedBytes() {
+        return bytes;
+    }
+
+    private static class Entry {
+        private final String description;
+        private final Change[] changes;
+        private final long bytes;
+
+        Entry(String description, Change[] changes) {
+            this.description = description;
+            this.changes = changes;
+            long total = 2L * description.length();
+            for (Change change : changes) {
+                total += change.estimateBytes();
+            }
+            this.bytes = total;
+        }
+    }
+}
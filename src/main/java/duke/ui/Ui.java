@@ -1,10 +1,17 @@
 package duke.ui;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Scanner;
 
+import duke.task.DeadLine;
+import duke.task.Event;
+import duke.task.RecurringTask;
 import duke.task.Task;
+import duke.task.TaskCounters;
 import duke.task.TaskList;
+import duke.task.Todo;
 /**
  * Contains the logic to display the UI for the user to see.
  *
@@ -13,6 +20,8 @@ import duke.task.TaskList;
 
 public class Ui {
     private final Scanner in;
+    // reminders for more tasks than this are cut short so a backlog of overdue tasks stays readable
+    private final int maxReminders = 10;
 
     public Ui() {
         this.in = new Scanner(System.in);
@@ -24,12 +33,28 @@ public class Ui {
      */
     public String showWelcome(TaskList taskList) {
         String greeting = "Hello! I'm Duke\n" + "What can I do for you?\n";
+        String summary = showSummary(taskList.getCounters(), LocalDate.now());
         String currTasks = "These are the current tasks I have:\n";
         String lst = listView(taskList.getAllTasks());
-        return greeting + currTasks + lst;
+        return greeting + summary + currTasks + lst;
 
     }
 
+    /**
+     * Displays how many tasks there are of each type, how many are done and how many are overdue.
+     * @param counters the counts of the tasks in the list
+     * @param today the current date, which tasks due before are overdue
+     */
+    public String showSummary(TaskCounters counters, LocalDate today) {
+        return "You have " + counters.getTotal() + " tasks: "
+                + counters.getCount(Todo.class) + " todos, "
+                + counters.getCount(DeadLine.class) + " deadlines, "
+                + counters.getCount(Event.class) + " events and "
+                + counters.getCount(RecurringTask.class) + " recurring tasks.\n"
+                + counters.getDone() + " are done, " + counters.getOpen() + " are not done and "
+                + counters.getOverdue(today) + " are overdue.\n";
+    }
+
     /**
      * Reads a command from the user.
      * @return a string command of the user input
@@ -108,6 +133,27 @@ public class Ui {
         return listOfTasks;
     }
 
+    /**
+     * Displays a message when an occurrence of a recurring task is marked done.
+     * @param task the recurring task
+     * @param dueDate the date of the occurrence that was done
+     */
+    public String doneOccurrence(RecurringTask task, LocalDate dueDate) {
+        return "Nice! I've marked the occurrence due on " + dueDate + " as done, the next one is due on "
+                + task.getDueDate() + ":\n" + task.toString();
+    }
+
+    /**
+     * Displays the occurrences of recurring tasks coming up, after the list of tasks.
+     * @param occurrences the upcoming occurrences, in order
+     */
+    public String upcomingView(List<DeadLine> occurrences) {
+        if (occurrences.isEmpty()) {
+            return "";
+        }
+        return "Coming up from your recurring tasks:\n" + list(new ArrayList<Task>(occurrences));
+    }
+
     /**
      * Displays a message when a task is marked done.
      * @param tsk the task that was done
@@ -117,6 +163,48 @@ public class Ui {
         return initialMsg + tsk.toString();
     }
 
+    /**
+     * Displays a message if the tasks could not be saved.
+     */
+    public String showSavingError() {
+        return "OOPS!!! I couldn't save your tasks, the change is only kept until I am closed.\n";
+    }
+
+    /**
+     * Displays the tasks that are due today or overdue, listing only the first few if there are many.
+     * @param dueTasks the tasks that have just become due
+     */
+    public String showReminders(List<Task> dueTasks) {
+        StringBuilder reminder = new StringBuilder("Reminder! These tasks are due:\n");
+        int shown = Math.min(dueTasks.size(), maxReminders);
+        for (int i = 0; i < shown; i++) {
+            reminder.append(dueTasks.get(i)).append("\n");
+        }
+        if (dueTasks.size() > shown) {
+            reminder.append("...and ").append(dueTasks.size() - shown).append(" more.\n");
+        }
+        return reminder.toString();
+    }
+
+    /**
+     * Displays the changes made to the list of tasks after the file was edited by another program.
+     * @param added the number of tasks added to the file
+     * @param removed the number of tasks removed from the file
+     * @param updated the number of tasks marked as done in the file
+     */
+    public String showExternalChanges(int added, int removed, int updated) {
+        return "The task file was changed outside of me, so I have updated your list: "
+                + added + " added, " + removed + " removed, " + updated + " marked as done.\n";
+    }
+
+    /**
+     * Displays a message if some of the saved tasks were corrupted and could not be loaded.
+     * @param count the number of corrupted tasks
+     */
+    public String showCorruptionWarning(int count) {
+        return "Warning: " + count + " saved tasks were corrupted and have been skipped.\n";
+    }
+
     /**
      * Displays a message if the file had error loading.
      */
@@ -124,6 +212,58 @@ public class Ui {
         System.out.println("error loading!");
     }
 
+    /**
+     * Displays a list view of the archived tasks.
+     * @param lst the archived tasks to be displayed
+     */
+    public String archivedListView(ArrayList<Task> lst) {
+        return "Here are the archived tasks:\n" + list(lst);
+    }
+
+    /**
+     * Displays a message when done tasks are moved to the archive.
+     * @param count the number of tasks archived
+     */
+    public String archivedMsg(int count) {
+        return "Noted. I've archived " + count + " done tasks.\n";
+    }
+
+    /**
+     * Displays a message after tasks are imported from a file.
+     * @param imported the number of tasks added to the list
+     * @param duplicates the number of tasks skipped because they were already in the list
+     * @param invalid the number of lines skipped because they could not be read
+     */
+    public String importedMsg(int imported, int duplicates, int invalid) {
+        return "Noted. I've imported " + imported + " tasks, skipping " + duplicates + " already in the list and "
+                + invalid + " that could not be read.\n";
+    }
+
+    /**
+     * Displays a message after tasks are exported to a file.
+     * @param count the number of tasks exported
+     * @param file the file the tasks were written to
+     */
+    public String exportedMsg(int count, String file) {
+        return "Noted. I've exported " + count + " tasks to " + file + "\n";
+    }
+
+    /**
+     * Displays a message after a command is undone.
+     * @param description what the command that was undone did
+     */
+    public String undoneMsg(String description) {
+        return "Noted. I've undone: " + description + "\n";
+    }
+
+    /**
+     * Displays a message after an undone command is made again.
+     * @param description what the command that was redone did
+     */
+    public String redoneMsg(String description) {
+        return "Noted. I've redone: " + description + "\n";
+    }
+
     /**
      * Displays a message for the matching tasks.
      */
@@ -0,0 +1,55 @@
+package duke.workload;
+
+import java.util.Arrays;
+
+/**
+ * Records every latency sample of one command type so that exact percentiles can be reported.
+ *
+ * @author Benjamin Lui
+ */
+public class LatencyRecorder {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] samples = new long[INITIAL_CAPACITY];
+    private int count = 0;
+    private long totalNanos = 0;
+    private boolean isSorted = true;
+
+    /**
+     * Records one latency sample.
+     * @param nanos the latency in nanoseconds
+     */
+    public void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        totalNanos += nanos;
+        isSorted = false;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Returns the latency that the given fraction of the samples are at or below.
+     * @param fraction the percentile as a fraction between 0 and 1, such as 0.99
+     * @return the latency in nanoseconds, or 0 if nothing was recorded
+     */
+    public long percentile(double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!isSorted) {
+            Arrays.sort(samples, 0, count);
+            isSorted = true;
+        }
+        int index = (int) Math.ceil(fraction * count) - 1;
+        return samples[Math.max(0, Math.min(index, count - 1))];
+    }
+}
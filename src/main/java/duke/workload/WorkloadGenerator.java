@@ -0,0 +1,158 @@
+package duke.workload;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates a reproducible sequence of commands with a configurable mix of command types.
+ * The generator keeps track of how many tasks the commands would leave in the list,
+ * so that every 'done' and 'delete' refers to a task that exists.
+ *
+ * @author Benjamin Lui
+ */
+public class WorkloadGenerator {
+    private static final String[] WORDS = {
+        "read", "book", "return", "project", "meeting", "homework", "submit", "report",
+        "call", "mum", "buy", "groceries", "pay", "bills", "clean", "room"
+    };
+    private static final String[] EVENT_TIMES = {"Mon 2-4pm", "Aug 6th 2-4pm", "Fri 9am", "Sun noon"};
+    private static final LocalDate FIRST_DATE = LocalDate.of(2020, 1, 1);
+    private static final int DAYS_SPANNED = 3650;
+
+    private final Map<String, Integer> mix;
+    private final int totalWeight;
+    private final Random random;
+    private int taskCount = 0;
+    private int uniqueSuffix = 0;
+
+    /**
+     * Constructor for the generator.
+     * @param mix the relative weight of each command type, keyed by command keyword
+     * @param seed the seed that makes the generated commands reproducible
+     */
+    public WorkloadGenerator(Map<String, Integer> mix, long seed) {
+        this.mix = new LinkedHashMap<String, Integer>(mix);
+        this.random = new Random(seed);
+        int total = 0;
+        for (int weight : mix.values()) {
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The command mix needs at least one positive weight");
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Returns the default command mix, dominated by adds with some lookups and changes.
+     * @return the weight of each command keyword
+     */
+    public static Map<String, Integer> defaultMix() {
+        Map<String, Integer> mix = new LinkedHashMap<String, Integer>();
+        mix.put("todo", 35);
+        mix.put("deadline", 15);
+        mix.put("event", 10);
+        mix.put("done", 15);
+        mix.put("delete", 10);
+        mix.put("find", 14);
+        mix.put("list", 1);
+        return mix;
+    }
+
+    /**
+     * Parses a command mix of the form {@code todo:40,done:10,find:5}.
+     * @param mixDescription the mix to be parsed
+     * @return the weight of each command keyword
+     */
+    public static Map<String, Integer> parseMix(String mixDescription) {
+        Map<String, Integer> mix = new LinkedHashMap<String, Integer>();
+        for (String entry : mixDescription.split(",")) {
+            String[] keywordAndWeight = entry.split(":");
+            if (keywordAndWeight.length != 2) {
+                throw new IllegalArgumentException("Invalid command mix entry: " + entry);
+            }
+            mix.put(keywordAndWeight[0].trim(), Integer.parseInt(keywordAndWeight[1].trim()));
+        }
+        return mix;
+    }
+
+    /**
+     * Generates the commands that add the given number of tasks, used to fill the list before a run.
+     * @param count the number of tasks to add
+     * @return the generated commands
+     */
+    public List<String> initialTasks(int count) {
+        List<String> commands = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(todo());
+        }
+        return commands;
+    }
+
+    /**
+     * Generates the given number of commands following the command mix.
+     * @param count the number of commands to generate
+     * @return the generated commands
+     */
+    public List<String> commands(int count) {
+        List<String> commands = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            commands.add(next());
+        }
+        return commands;
+    }
+
+    private String next() {
+        String keyword = pickKeyword();
+        if (taskCount == 0 && (keyword.equals("done") || keyword.equals("delete"))) {
+            // nothing to change yet, so add a task instead
+            keyword = "todo";
+        }
+        switch (keyword) {
+        case "todo":
+            return todo();
+        case "deadline":
+            taskCount++;
+            return "deadline " + description() + " /by " + FIRST_DATE.plusDays(random.nextInt(DAYS_SPANNED));
+        case "event":
+            taskCount++;
+            return "event " + description() + " /at " + EVENT_TIMES[random.nextInt(EVENT_TIMES.length)];
+        case "done":
+            return "done " + (random.nextInt(taskCount) + 1);
+        case "delete":
+            int taskNumber = random.nextInt(taskCount) + 1;
+            taskCount--;
+            return "delete " + taskNumber;
+        case "find":
+            return "find " + WORDS[random.nextInt(WORDS.length)];
+        default:
+            return keyword;
+        }
+    }
+
+    private String pickKeyword() {
+        int roll = random.nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("The command mix weights have changed");
+    }
+
+    private String todo() {
+        taskCount++;
+        return "todo " + description();
+    }
+
+    private String description() {
+        // the suffix keeps every description unique, as duplicates are rejected by the commands
+        uniqueSuffix++;
+        return WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + uniqueSuffix;
+    }
+}
@@ -0,0 +1,147 @@
+package duke.workload;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import duke.command.Command;
+import duke.parser.Parser;
+import duke.storage.FileStorage;
+import duke.storage.InMemoryStorage;
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+/**
+ * Replays a generated workload headlessly through the parser and the commands against a
+ * temporary task file, or against tasks kept in memory, and reports the throughput and latency percentiles
+ * of each command type.
+ *
+ * @author Benjamin Lui
+ */
+public class WorkloadReplayer {
+    private static final double NANOS_PER_MICRO = 1000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final Parser parser = new Parser();
+    private final Ui ui = new Ui();
+    private final Storage storage;
+    private final TaskList tasks = new TaskList();
+    private final Map<String, LatencyRecorder> latencies = new TreeMap<String, LatencyRecorder>();
+    private long elapsedNanos = 0;
+
+    /**
+     * Constructor for the replayer.
+     * @param storage where the commands save the tasks to
+     */
+    public WorkloadReplayer(Storage storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * Generates and replays a workload, then prints its report.
+     * @param args optional settings of the form {@code key=value}: {@code ops} (number of commands,
+     *     default 10000), {@code initial} (tasks added before measuring, default 1000),
+     *     {@code seed} (default 42), {@code mix} (such as {@code todo:40,done:10,find:5}) and {@code storage}
+     *     ({@code file} by default, or {@code memory} to leave out the cost of saving)
+     */
+    public static void main(String[] args) throws IOException {
+        int operations = 10000;
+        int initialTasks = 1000;
+        long seed = 42L;
+        boolean isInMemory = false;
+        Map<String, Integer> mix = WorkloadGenerator.defaultMix();
+        for (String arg : args) {
+            String[] keyAndValue = arg.split("=", 2);
+            switch (keyAndValue[0]) {
+            case "ops":
+                operations = Integer.parseInt(keyAndValue[1]);
+                break;
+            case "initial":
+                initialTasks = Integer.parseInt(keyAndValue[1]);
+                break;
+            case "seed":
+                seed = Long.parseLong(keyAndValue[1]);
+                break;
+            case "mix":
+                mix = WorkloadGenerator.parseMix(keyAndValue[1]);
+                break;
+            case "storage":
+                isInMemory = keyAndValue[1].equals("memory");
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown setting: " + arg);
+            }
+        }
+
+        WorkloadGenerator generator = new WorkloadGenerator(mix, seed);
+        List<String> setUp = generator.initialTasks(initialTasks);
+        List<String> workload = generator.commands(operations);
+
+        Path file = isInMemory ? null : Files.createTempFile("duke-workload", ".txt");
+        try {
+            Storage storage = isInMemory ? new InMemoryStorage() : new FileStorage(file.toString());
+            WorkloadReplayer replayer = new WorkloadReplayer(storage);
+            replayer.replay(setUp);
+            replayer.reset();
+            replayer.replay(workload);
+            System.out.println("Replayed " + operations + " commands on top of " + initialTasks + " tasks");
+            System.out.print(replayer.report());
+        } finally {
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * Executes the commands in order, timing each of them.
+     * @param commands the commands to be executed
+     */
+    public void replay(List<String> commands) {
+        for (String command : commands) {
+            long start = System.nanoTime();
+            Command c = parser.parse(command);
+            c.execute(tasks, ui, storage);
+            long latency = System.nanoTime() - start;
+            elapsedNanos += latency;
+            latencies.computeIfAbsent(c.getClass().getSimpleName(), type -> new LatencyRecorder()).record(latency);
+        }
+    }
+
+    /**
+     * Discards the recorded latencies, keeping the tasks, so that warm up commands are not reported.
+     */
+    public void reset() {
+        latencies.clear();
+        elapsedNanos = 0;
+    }
+
+    /**
+     * Returns a table of the count, throughput and latency percentiles of each command type.
+     * @return the report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-18s %8s %12s %10s %10s %10s%n",
+                "command", "count", "ops/s", "p50(us)", "p99(us)", "p999(us)"));
+        int totalCount = 0;
+        for (Map.Entry<String, LatencyRecorder> entry : latencies.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            totalCount += recorder.getCount();
+            report.append(String.format("%-18s %8d %12.1f %10.1f %10.1f %10.1f%n",
+                    entry.getKey(),
+                    recorder.getCount(),
+                    recorder.getCount() / (recorder.getTotalNanos() / NANOS_PER_SECOND),
+                    recorder.percentile(0.5) / NANOS_PER_MICRO,
+                    recorder.percentile(0.99) / NANOS_PER_MICRO,
+                    recorder.percentile(0.999) / NANOS_PER_MICRO));
+        }
+        report.append(String.format("%-18s %8d %12.1f%n", "total", totalCount,
+                totalCount / (elapsedNanos / NANOS_PER_SECOND)));
+        return report.toString();
+    }
+}
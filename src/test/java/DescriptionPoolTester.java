@@ -0,0 +1,20 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.DeadLine;
+import duke.task.DescriptionPool;
+import duke.task.Todo;
+
+public class DescriptionPoolTester {
+
+    @Test
+    void testEqualDescriptionsAreShared() {
+        Todo todo = new Todo(new String("water the plants "));
+        DeadLine deadLine = new DeadLine(" water the plants", "2026-10-20");
+        assertSame(todo.getDescription(), deadLine.getDescription());
+        assertSame(todo.getDescription(), DescriptionPool.intern(new String("water the plants")));
+        assertEquals("water the plants", todo.getDescription());
+    }
+}
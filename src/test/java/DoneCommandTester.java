@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import duke.command.Command;
 import duke.parser.Parser;
+import duke.storage.InMemoryStorage;
 import duke.storage.Storage;
 import duke.task.TaskList;
 import duke.ui.Ui;
@@ -15,7 +16,7 @@ public class DoneCommandTester {
 
     DoneCommandTester() {
         this.ui = new Ui();
-        this.storage = new Storage("DoneCommandTest.txt");
+        this.storage = new InMemoryStorage();
         try {
             storage.clear();
             taskList = storage.load();
@@ -0,0 +1,38 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import duke.metrics.LatencyHistogram;
+
+public class LatencyHistogramTester {
+
+    @Test
+    void testEmptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.percentile(0.99));
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 4; i++) {
+            histogram.record(i);
+        }
+        assertEquals(4, histogram.getCount());
+        assertEquals(2, histogram.percentile(0.5));
+        assertEquals(4, histogram.percentile(1.0));
+    }
+
+    @Test
+    void testPercentileWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100000; i++) {
+            histogram.record(i);
+        }
+        long median = histogram.percentile(0.5);
+        assertTrue(median >= 50000 && median <= 50000 * 1.125, "median was " + median);
+        assertEquals(100000, histogram.percentile(1.0));
+    }
+}
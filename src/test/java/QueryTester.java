@@ -0,0 +1,137 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import duke.query.Query;
+import duke.task.DeadLine;
+import duke.task.Event;
+import duke.task.Task;
+import duke.task.TaskIndex;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+public class QueryTester {
+    private TaskList taskList = new TaskList();
+
+    QueryTester() {
+        taskList.add(new DeadLine("write report", "2026-10-20"));
+        taskList.add(new DeadLine("submit report", "2026-12-01"));
+        taskList.add(new DeadLine("read report", "2026-10-01", "X"));
+        taskList.add(new Todo("reporting tools"));
+        taskList.add(new Event("report review", "2026-10-25"));
+        taskList.add(new Todo("buy milk"));
+    }
+
+    private String descriptions(ArrayList<Task> tasks) {
+        StringBuilder descriptions = new StringBuilder();
+        for (Task task : tasks) {
+            descriptions.append(task.getDescription()).append(";");
+        }
+        return descriptions.toString();
+    }
+
+    @Test
+    void testCombinedQuery() {
+        Query query = Query.compile("type:deadline !done due<2026-11-01 \"report\"");
+        assertEquals("write report;", descriptions(query.run(taskList)));
+    }
+
+    @Test
+    void testOrAndBracketsKeepListOrder() {
+        Query query = Query.compile("milk or (report and due>=2026-10-25)");
+        assertEquals("submit report;report review;buy milk;", descriptions(query.run(taskList)));
+        assertEquals("word index (\"milk\") | due date index (due>=2026-10-25)", query.getLastAccessPath());
+    }
+
+    @Test
+    void testKeywordsDoNotDependOnLocale() {
+        Locale locale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            // a Turkish locale lower-cases the I of DEADLINE to a dotless i
+            assertEquals("read report;", descriptions(Query.compile("TYPE:DEADLINE DONE").run(taskList)));
+        } finally {
+            Locale.setDefault(locale);
+        }
+    }
+
+    @Test
+    void testIndexFollowsChanges() {
+        Query query = Query.compile("\"buy milk\"");
+        assertEquals(1, query.run(taskList).size());
+        taskList.delete(5);
+        taskList.add(new Todo("buy more milk"));
+        assertEquals(0, query.run(taskList).size());
+        assertEquals(1, Query.compile("buy milk").run(taskList).size());
+    }
+
+    @Test
+    void testTaskPutBackKeepsItsPlace() {
+        Query query = Query.compile("report !done");
+        String before = descriptions(query.run(taskList));
+        for (int i = 0; i < 40; i++) {
+            taskList.add(1, taskList.delete(1));
+        }
+        assertEquals(before, descriptions(query.run(taskList)));
+        assertEquals("word index (\"report\")", query.getLastAccessPath());
+
+        // each task goes in right after the first, until the keys have to be handed out again
+        for (int i = 0; i < 30; i++) {
+            taskList.add(1, new Todo("draft report " + i));
+        }
+        ArrayList<Task> expected = new ArrayList<Task>();
+        for (Task task : taskList.getAllTasks()) {
+            if (TaskIndex.words(task.getDescription()).contains("report") && !task.isDone()) {
+                expected.add(task);
+            }
+        }
+        assertEquals(descriptions(expected), descriptions(query.run(taskList)));
+    }
+
+    @Test
+    void testTagsAreAnsweredFromBitmaps() {
+        taskList.add(new Todo("plan offsite #work #travel"));
+        taskList.add(new Todo("pack bags #travel #home"));
+        taskList.add(new Todo("fix sink #Home"));
+        Query query = Query.compile("(#work or #home) !#travel");
+        assertEquals("fix sink #Home;", descriptions(query.run(taskList)));
+        assertEquals("tag bitmap", query.getLastAccessPath());
+        taskList.delete(8);
+        assertEquals("", descriptions(query.run(taskList)));
+
+        Query mixed = Query.compile("#travel pack");
+        assertEquals("pack bags #travel #home;", descriptions(mixed.run(taskList)));
+        assertEquals("word index (\"pack\")", mixed.getLastAccessPath());
+    }
+
+    @Test
+    void testTagIdsAreReusedAndResultsKeepListOrder() {
+        taskList.add(new Todo("plan offsite #work"));
+        taskList.add(new Todo("book flights #work"));
+        Query query = Query.compile("#work");
+        taskList.add(6, taskList.delete(6));
+        assertEquals("plan offsite #work;book flights #work;", descriptions(query.run(taskList)));
+        assertEquals("tag bitmap", query.getLastAccessPath());
+
+        for (int i = 0; i < 1000; i++) {
+            taskList.add(new Todo("churn " + i + " #work"));
+            taskList.delete(taskList.size() - 1);
+        }
+        int[] highestId = {-1};
+        taskList.getIndex().allTasks().forEach(id -> highestId[0] = Math.max(highestId[0], id));
+        assertTrue(highestId[0] < taskList.size() + 1);
+    }
+
+    @Test
+    void testInvalidQueries() {
+        assertThrows(IllegalArgumentException.class, () -> Query.compile("due<tomorrow"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile("(report"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile("type:chore"));
+        assertThrows(IllegalArgumentException.class, () -> Query.compile("#work!"));
+    }
+}
@@ -0,0 +1,53 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.CommandDispatcher;
+import duke.storage.FileStorage;
+import duke.storage.Storage;
+import duke.task.DeadLine;
+import duke.task.RecurringTask;
+import duke.task.TaskList;
+import duke.ui.Ui;
+
+public class RecurringTaskTester {
+
+    @Test
+    void testMonthlyOccurrencesKeepTheDay() {
+        RecurringTask rent = new RecurringTask("pay rent", RecurringTask.Frequency.MONTH,
+                LocalDate.parse("2026-01-31"));
+        List<DeadLine> occurrences = rent.occurrencesBetween(LocalDate.parse("2026-02-01"),
+                LocalDate.parse("2026-04-30"));
+        assertEquals(3, occurrences.size());
+        assertEquals(LocalDate.parse("2026-02-28"), occurrences.get(0).getDueDate());
+        assertEquals(LocalDate.parse("2026-03-31"), occurrences.get(1).getDueDate());
+    }
+
+    @Test
+    void testDoneOccurrencesAreSavedAndUndone() throws IOException {
+        Path file = Files.createTempFile("RecurringTaskTest", ".txt");
+        file.toFile().deleteOnExit();
+        Storage storage = new FileStorage(file.toString());
+        TaskList taskList = new TaskList();
+        Ui ui = new Ui();
+        CommandDispatcher dispatcher = new CommandDispatcher();
+        dispatcher.dispatch("recur water plants /every week /from 2026-10-05", taskList, ui, storage);
+        dispatcher.dispatch("done 1", taskList, ui, storage);
+        dispatcher.dispatch("done 1", taskList, ui, storage);
+        assertEquals(LocalDate.parse("2026-10-19"), taskList.getAllTasks().get(0).getDueDate());
+        assertEquals(1, taskList.size());
+
+        RecurringTask loaded = (RecurringTask) new FileStorage(file.toString()).load().getAllTasks().get(0);
+        assertEquals("[R][ ] water plants (every week from: Oct 05 2026, 2 done)", loaded.toString());
+        assertEquals(LocalDate.parse("2026-10-19"), loaded.getDueDate());
+
+        dispatcher.dispatch("undo", taskList, ui, storage);
+        assertEquals(LocalDate.parse("2026-10-12"), taskList.getAllTasks().get(0).getDueDate());
+    }
+}
@@ -0,0 +1,57 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+import duke.task.RoaringBitmap;
+
+public class RoaringBitmapTester {
+    private final Random random = new Random(48);
+
+    private List<Integer> values(RoaringBitmap bitmap) {
+        List<Integer> values = new ArrayList<Integer>();
+        bitmap.forEach(values::add);
+        return values;
+    }
+
+    private RoaringBitmap fill(TreeSet<Integer> expected, int count, int bound) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < count; i++) {
+            int value = random.nextInt(bound);
+            bitmap.add(value);
+            expected.add(value);
+        }
+        return bitmap;
+    }
+
+    @Test
+    void testOperationsMatchSets() {
+        // dense chunks turn into bitmaps and sparse ones stay arrays
+        TreeSet<Integer> first = new TreeSet<Integer>();
+        TreeSet<Integer> second = new TreeSet<Integer>();
+        RoaringBitmap firstBitmap = fill(first, 20000, 200000);
+        RoaringBitmap secondBitmap = fill(second, 3000, 200000);
+        for (int i = 0; i < 5000; i++) {
+            int value = random.nextInt(200000);
+            firstBitmap.remove(value);
+            first.remove(value);
+        }
+        assertEquals(new ArrayList<Integer>(first), values(firstBitmap));
+        assertEquals(first.size(), firstBitmap.cardinality());
+
+        TreeSet<Integer> and = new TreeSet<Integer>(first);
+        and.retainAll(second);
+        assertEquals(new ArrayList<Integer>(and), values(RoaringBitmap.and(firstBitmap, secondBitmap)));
+        TreeSet<Integer> or = new TreeSet<Integer>(first);
+        or.addAll(second);
+        assertEquals(new ArrayList<Integer>(or), values(RoaringBitmap.or(firstBitmap, secondBitmap)));
+        TreeSet<Integer> andNot = new TreeSet<Integer>(first);
+        andNot.removeAll(second);
+        assertEquals(new ArrayList<Integer>(andNot), values(RoaringBitmap.andNot(firstBitmap, secondBitmap)));
+        assertEquals(new ArrayList<Integer>(first), values(firstBitmap));
+    }
+}
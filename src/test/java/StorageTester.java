@@ -0,0 +1,241 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+
+import duke.storage.FileStorage;
+import duke.storage.InMemoryStorage;
+import duke.storage.IncrementalTaskListEncoder;
+import duke.storage.MergePolicy;
+import duke.storage.MergeResult;
+import duke.storage.Storage;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+public class StorageTester {
+
+    private Path savedFile(TaskList taskList) throws IOException {
+        Path file = Files.createTempFile("StorageTest", ".txt");
+        file.toFile().deleteOnExit();
+        new FileStorage(file.toString()).save(taskList);
+        return file;
+    }
+
+    @Test
+    void testSaveAndLoad() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        taskList.add(new Todo("return books", "X"));
+        Storage storage = new FileStorage(savedFile(taskList).toString());
+        TaskList loaded = storage.load();
+        assertEquals(2, loaded.size());
+        assertEquals("[T][X] return books", loaded.getAllTasks().get(1).toString());
+        assertEquals(0, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testCorruptedLineIsSkipped() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        taskList.add(new Todo("return books"));
+        Path file = savedFile(taskList);
+        String contents = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Files.write(file, contents.replace("read", "reed").getBytes(StandardCharsets.UTF_8));
+        Storage storage = new FileStorage(file.toString());
+        assertEquals(1, storage.load().size());
+        assertEquals(1, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testTornTailIsSkipped() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        Path file = savedFile(taskList);
+        Files.write(file, "[T][ ] return bo".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Storage storage = new FileStorage(file.toString());
+        assertEquals(1, storage.load().size());
+        assertEquals(1, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testTornFirstLineIsSkipped() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        taskList.add(new Todo("return books"));
+        taskList.add(new Todo("buy books"));
+        Path file = savedFile(taskList);
+        String contents = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        Files.write(file, ("[T][ ] read bo" + contents.substring(contents.indexOf('\n')))
+                .getBytes(StandardCharsets.UTF_8));
+        Storage storage = new FileStorage(file.toString());
+        assertEquals(2, storage.load().size());
+        assertEquals(1, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testLinesWithoutChecksumAreLoaded() throws IOException {
+        Path file = Files.createTempFile("StorageTest", ".txt");
+        file.toFile().deleteOnExit();
+        Files.write(file, "[T][ ] read books\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(1, new FileStorage(file.toString()).load().size());
+    }
+
+    @Test
+    void testCompressedSaveAndLoad() throws IOException {
+        TaskList taskList = new TaskList();
+        for (int i = 0; i < 1000; i++) {
+            taskList.add(new Todo("read book " + i, i % 2 == 0 ? "X" : " "));
+        }
+        Path file = Files.createTempFile("StorageTest", ".dkz");
+        file.toFile().deleteOnExit();
+        new FileStorage(file.toString()).save(taskList);
+        assertTrue(Files.size(file) < 1000 * "[T][ ] read book 000".length());
+        Storage storage = new FileStorage(file.toString());
+        TaskList loaded = storage.load();
+        assertEquals(1000, loaded.size());
+        assertEquals("[T][X] read book 998", loaded.getAllTasks().get(998).toString());
+        assertEquals(0, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testExternalChangesAreMerged() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        taskList.add(new Todo("return books"));
+        Path file = Files.createTempFile("StorageTest", ".txt");
+        file.toFile().deleteOnExit();
+        Storage storage = new FileStorage(file.toString());
+        storage.save(taskList);
+        Files.write(file, "[T][X] read books\n[T][ ] buy books\n".getBytes(StandardCharsets.UTF_8));
+        taskList.add(new Todo("sell books"));
+        MergeResult result = storage.mergeExternalChanges(taskList, MergePolicy.KEEP_LOCAL);
+        assertEquals(1, result.getAdded());
+        assertEquals(1, result.getRemoved());
+        assertEquals(1, result.getUpdated());
+        assertEquals("[T][X] read books", taskList.getAllTasks().get(0).toString());
+        assertEquals("[T][ ] sell books", taskList.getAllTasks().get(1).toString());
+        assertEquals("[T][ ] buy books", taskList.getAllTasks().get(2).toString());
+        assertEquals(3, new FileStorage(file.toString()).load().size());
+    }
+
+    @Test
+    void testCompressedBlockWithImpossibleLengthIsSkipped() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        Path file = Files.createTempFile("StorageTest", ".dkz");
+        file.toFile().deleteOnExit();
+        new FileStorage(file.toString()).save(taskList);
+        byte[] bytes = Files.readAllBytes(file);
+        // the length of the lines in the header of the only block, just after the magic number
+        ByteBuffer.wrap(bytes).putInt(4, Integer.MAX_VALUE);
+        Files.write(file, bytes);
+        Storage storage = new FileStorage(file.toString());
+        assertEquals(0, storage.load().size());
+        assertEquals(1, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testLinesEditedByHandAreMerged() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        taskList.add(new Todo("return books"));
+        Path file = Files.createTempFile("StorageTest", ".txt");
+        file.toFile().deleteOnExit();
+        Storage storage = new FileStorage(file.toString());
+        storage.save(taskList);
+        String contents = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        contents = contents.replace("[T][ ] read books", "[T][X] read books") + "[T][ ] new from editor\n";
+        Files.write(file, contents.getBytes(StandardCharsets.UTF_8));
+        MergeResult result = storage.mergeExternalChanges(taskList, MergePolicy.KEEP_LOCAL);
+        assertEquals(1, result.getAdded());
+        assertEquals(0, result.getRemoved());
+        assertEquals(1, result.getUpdated());
+        assertEquals("[T][X] read books", taskList.getAllTasks().get(0).toString());
+        assertEquals("[T][ ] new from editor", taskList.getAllTasks().get(2).toString());
+        assertEquals(3, new FileStorage(file.toString()).load().size());
+    }
+
+    @Test
+    void testUnreadableLineIsNotTakenAsDeleted() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        taskList.add(new Todo("return books"));
+        Path file = Files.createTempFile("StorageTest", ".txt");
+        file.toFile().deleteOnExit();
+        Storage storage = new FileStorage(file.toString());
+        storage.save(taskList);
+        Files.write(file, "[T][ ] read books\n[T\n".getBytes(StandardCharsets.UTF_8));
+        MergeResult result = storage.mergeExternalChanges(taskList, MergePolicy.KEEP_LOCAL);
+        assertEquals(0, result.getRemoved());
+        assertEquals(2, taskList.size());
+        assertEquals(1, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testSaveMergesExternalChangesFirst() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        Path file = Files.createTempFile("StorageTest", ".txt");
+        file.toFile().deleteOnExit();
+        Storage storage = new FileStorage(file.toString());
+        storage.save(taskList);
+        Files.write(file, "[T][ ] buy books\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        taskList.add(new Todo("sell books"));
+        storage.save(taskList);
+        assertEquals(3, taskList.size());
+        assertEquals(3, new FileStorage(file.toString()).load().size());
+    }
+
+    @Test
+    void testClearEmptiesFileWithoutReadingIt() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        Path file = savedFile(taskList);
+        // a file that cannot be decoded would make a clear that reads it fail
+        Files.write(file, "not a task file".getBytes(StandardCharsets.UTF_8));
+        Storage storage = new FileStorage(file.toString());
+        storage.clear();
+        assertEquals(0, Files.size(file));
+        assertEquals(0, storage.load().size());
+        assertEquals(0, storage.getCorruptRecords());
+    }
+
+    @Test
+    void testInMemoryStorageKeepsSavedCopies() throws IOException {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books", "X"));
+        taskList.add(new Todo("return books"));
+        Storage storage = new InMemoryStorage();
+        storage.save(taskList);
+        taskList.markAsNotDone(taskList.getAllTasks().get(0));
+        TaskList loaded = storage.load();
+        assertEquals("[T][X] read books", loaded.getAllTasks().get(0).toString());
+        assertEquals(1, storage.archive(loaded));
+        assertEquals(1, storage.load().size());
+        assertEquals(1, storage.loadArchive().size());
+        storage.clear();
+        assertEquals(0, storage.load().size());
+    }
+
+    @Test
+    void testEncodersDoNotShareStaleLines() {
+        TaskList taskList = new TaskList();
+        taskList.add(new Todo("read books"));
+        IncrementalTaskListEncoder first = new IncrementalTaskListEncoder();
+        IncrementalTaskListEncoder second = new IncrementalTaskListEncoder();
+        first.encode(taskList);
+        second.encode(taskList);
+        taskList.markAsDone(taskList.getAllTasks().get(0));
+        second.encode(taskList);
+        ByteBuffer[] lines = first.encode(taskList);
+        assertEquals(1, first.getReencodedCount());
+        assertTrue(StandardCharsets.UTF_8.decode(lines[0]).toString().contains("[T][X] read books"));
+    }
+}
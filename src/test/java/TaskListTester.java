@@ -1,11 +1,25 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import duke.command.Command;
+import duke.command.CommandDispatcher;
 import duke.parser.Parser;
+import duke.storage.InMemoryStorage;
 import duke.storage.Storage;
+import duke.task.DeadLine;
+import duke.task.TaskCounters;
+import duke.task.TaskDelta;
+import duke.task.TaskDeltaStream;
 import duke.task.TaskList;
+import duke.task.Todo;
 import duke.ui.Ui;
 
 public class TaskListTester {
@@ -15,7 +29,7 @@ public class TaskListTester {
 
     TaskListTester() {
         this.ui = new Ui();
-        this.storage = new Storage("TaskListtest.txt");
+        this.storage = new InMemoryStorage();
         try {
             storage.clear();
             taskList = storage.load();
@@ -41,4 +55,43 @@ public class TaskListTester {
         executeCommand("done 1");
         assertEquals(taskList.getAllTasks().get(0).getStatusIcon(), "X");
     }
+
+    @Test
+    void testChangesArePublishedOncePerCommand() {
+        List<List<TaskDelta>> batches = new ArrayList<List<TaskDelta>>();
+        taskList.addBatchListener(batches::add);
+        TaskDeltaStream stream = taskList.openStream(1);
+        CommandDispatcher dispatcher = new CommandDispatcher();
+        dispatcher.dispatch("todo read books", taskList, ui, storage);
+        dispatcher.dispatch("done 1", taskList, ui, storage);
+        dispatcher.dispatch("list", taskList, ui, storage);
+
+        assertEquals(2, batches.size());
+        assertEquals("[ADDED 0 [T][ ] read books]", batches.get(0).toString());
+        assertEquals(TaskDelta.Kind.UPDATED, batches.get(1).get(0).getKind());
+        assertTrue(batches.get(1).get(0).isDone());
+        assertEquals(batches.get(0), stream.poll());
+        assertTrue(stream.isOverflowed());
+        assertNull(stream.poll());
+        stream.resetOverflow();
+        assertFalse(stream.isOverflowed());
+    }
+
+    @Test
+    void testCountersFollowChanges() {
+        taskList.add(new Todo("read books"));
+        taskList.add(new DeadLine("return books", "2026-10-10"));
+        taskList.add(new DeadLine("pay fine", "2026-10-20"));
+        TaskCounters counters = taskList.getCounters();
+        assertEquals(2, counters.getCount(DeadLine.class));
+        assertEquals(1, counters.getOverdue(LocalDate.parse("2026-10-15")));
+        assertEquals(2, counters.getOverdue(LocalDate.parse("2026-10-21")));
+
+        taskList.done(1);
+        taskList.delete(0);
+        assertEquals(1, counters.getDone());
+        assertEquals(1, counters.getOpen());
+        assertEquals(1, counters.getOverdue(LocalDate.parse("2026-10-21")));
+        assertEquals(0, counters.getOverdue(LocalDate.parse("2026-10-01")));
+    }
 }
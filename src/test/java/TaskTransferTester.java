@@ -0,0 +1,77 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.storage.ImportResult;
+import duke.storage.TaskTransfer;
+import duke.task.DeadLine;
+import duke.task.Event;
+import duke.task.RecurringTask;
+import duke.task.TaskList;
+import duke.task.Todo;
+
+public class TaskTransferTester {
+    private TaskList taskList = new TaskList();
+
+    TaskTransferTester() {
+        taskList.add(new Todo("say \"hi\", then leave \\ #home", "X"));
+        taskList.add(new DeadLine("write report", "2026-10-20"));
+        taskList.add(new Event("team dinner", " Friday 7pm"));
+        taskList.add(new RecurringTask("pay rent", RecurringTask.Frequency.MONTH, LocalDate.parse("2026-01-31"), 2));
+    }
+
+    private Path tempFile(String extension) throws IOException {
+        Path file = Files.createTempFile("TaskTransferTest", extension);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    private void assertRoundTrip(String extension) throws IOException {
+        Path file = tempFile(extension);
+        assertEquals(4, TaskTransfer.export(taskList.getAllTasks(), file));
+        TaskList imported = new TaskList();
+        ImportResult result = TaskTransfer.importTasks(file, imported);
+        assertEquals(4, result.getImported());
+        assertEquals(taskList.getAllTasks().toString(), imported.getAllTasks().toString());
+
+        result = TaskTransfer.importTasks(file, imported);
+        assertEquals(0, result.getImported());
+        assertEquals(4, result.getDuplicates());
+        assertEquals(4, imported.size());
+    }
+
+    @Test
+    void testRoundTrips() throws IOException {
+        assertRoundTrip(TaskTransfer.CSV_EXTENSION);
+        assertRoundTrip(TaskTransfer.JSON_LINES_EXTENSION);
+    }
+
+    @Test
+    void testFilesFromOtherPrograms() throws IOException {
+        Path csv = tempFile(TaskTransfer.CSV_EXTENSION);
+        Files.write(csv, List.of("description,type,priority", "buy milk,todo,high", "\"broken,todo",
+                "water plants,chore,low", "buy milk,todo,low"), StandardCharsets.UTF_8);
+        ImportResult result = TaskTransfer.importTasks(csv, taskList);
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getDuplicates());
+        assertEquals(2, result.getInvalid());
+
+        Path jsonLines = tempFile(TaskTransfer.JSON_LINES_EXTENSION);
+        Files.write(jsonLines, List.of("{ \"type\": \"deadline\", \"description\": \"file taxes\", \"id\": 7,"
+                + " \"date\": \"2027-04-30\", \"done\": true }", "", "{\"type\": \"todo\"}",
+                "{\"type\": \"todo\", \"description\": \"first\\nline two\"}",
+                "{\"type\": \"deadline\", \"description\": \"pay (rent)\", \"date\": \"2027-05-01\"}"),
+                StandardCharsets.UTF_8);
+        result = TaskTransfer.importTasks(jsonLines, taskList);
+        assertEquals(1, result.getImported());
+        assertEquals(3, result.getInvalid());
+        assertEquals("[D][X] file taxes (by: Apr 30 2027)", taskList.getAllTasks().get(5).toString());
+    }
+}
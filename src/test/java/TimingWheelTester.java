@@ -0,0 +1,43 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import duke.reminder.TimingWheel;
+
+public class TimingWheelTester {
+
+    @Test
+    void testItemsExpireInOrder() {
+        TimingWheel<String> wheel = new TimingWheel<String>(1000, 0);
+        wheel.schedule("in a year", 365L * 24 * 60 * 60 * 1000);
+        wheel.schedule("in a minute", 60 * 1000);
+        wheel.schedule("in a day", 24 * 60 * 60 * 1000);
+        wheel.schedule("already due", 0);
+        List<String> expired = new ArrayList<String>();
+        wheel.advanceTo(24 * 60 * 60 * 1000, expired::add);
+        assertEquals(List.of("already due", "in a minute", "in a day"), expired);
+        assertEquals(1, wheel.size());
+        wheel.advanceTo(365L * 24 * 60 * 60 * 1000 - 1, expired::add);
+        assertEquals(3, expired.size());
+        wheel.advanceTo(365L * 24 * 60 * 60 * 1000, expired::add);
+        assertEquals("in a year", expired.get(3));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testCancelledItemsNeverExpire() {
+        TimingWheel<String> wheel = new TimingWheel<String>(1000, 0);
+        TimingWheel.Timeout<String> cancelled = wheel.schedule("cancelled", 5000);
+        wheel.schedule("kept", 5000);
+        assertTrue(cancelled.cancel());
+        assertFalse(cancelled.cancel());
+        List<String> expired = new ArrayList<String>();
+        wheel.advanceTo(10000, expired::add);
+        assertEquals(List.of("kept"), expired);
+    }
+}
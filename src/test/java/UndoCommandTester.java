@@ -0,0 +1,72 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import duke.command.Command;
+import duke.parser.Parser;
+import duke.storage.InMemoryStorage;
+import duke.storage.Storage;
+import duke.task.Change;
+import duke.task.TaskList;
+import duke.task.Todo;
+import duke.task.UndoLog;
+import duke.ui.Ui;
+
+public class UndoCommandTester {
+    private Ui ui;
+    private Storage storage;
+    private TaskList taskList;
+
+    UndoCommandTester() {
+        this.ui = new Ui();
+        this.storage = new InMemoryStorage();
+        try {
+            storage.clear();
+            taskList = storage.load();
+        } catch (Exception e) {
+            taskList = new TaskList();
+        }
+    }
+
+    void executeCommand(String command) {
+        Command c = new Parser().parse(command);
+        c.execute(taskList, ui, storage);
+    }
+
+    @Test
+    void testUndoAndRedo() {
+        executeCommand("todo read books");
+        executeCommand("todo return books");
+        executeCommand("done 1");
+        executeCommand("delete 1");
+        assertEquals("[T][ ] return books", taskList.getAllTasks().get(0).toString());
+
+        executeCommand("undo");
+        executeCommand("undo");
+        assertEquals("[T][ ] read books", taskList.getAllTasks().get(0).toString());
+        assertEquals(2, taskList.size());
+
+        executeCommand("redo");
+        assertEquals("[T][X] read books", taskList.getAllTasks().get(0).toString());
+        executeCommand("undo");
+        executeCommand("undo");
+        executeCommand("undo");
+        assertEquals(0, taskList.size());
+        executeCommand("undo");
+        assertEquals(0, taskList.size());
+    }
+
+    @Test
+    void testOldestChangesAreDropped() {
+        UndoLog undoLog = new UndoLog(2, Long.MAX_VALUE);
+        for (int i = 0; i < 3; i++) {
+            Todo todo = new Todo("task " + i);
+            taskList.add(todo);
+            undoLog.record("add " + todo, Change.added(i, todo));
+        }
+        undoLog.undo(taskList);
+        undoLog.undo(taskList);
+        assertEquals(null, undoLog.undo(taskList));
+        assertEquals(1, taskList.size());
+    }
+}